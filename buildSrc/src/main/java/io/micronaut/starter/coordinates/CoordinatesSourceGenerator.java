@@ -37,11 +37,11 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @CacheableTask
@@ -90,6 +90,12 @@ public abstract class CoordinatesSourceGenerator extends DefaultTask {
     @Inject
     protected abstract FileOperations getFileOperations();
 
+    /**
+     * Generates the coordinates class. The coordinates are also written as two arrays sorted by artifact id, so that
+     * looking up a coordinate is a binary search and initializing the class does not populate a hash map.
+     *
+     * @throws IOException If the sources cannot be written
+     */
     @TaskAction
     public void generateSources() throws IOException {
         File outputDirectory = getOutputDirectory().get().getAsFile();
@@ -100,24 +106,27 @@ public abstract class CoordinatesSourceGenerator extends DefaultTask {
         try (PrintWriter writer = new PrintWriter(new FileWriter(new File(packageDirectory.toFile(), "StarterCoordinates.java")))) {
             writer.println("package " + packageName + ";");
             writer.println();
-            writer.println("import java.util.HashMap;");
             writer.println("import java.util.Map;");
-            writer.println("import java.util.Collections;");
             writer.println();
             writer.println("public class StarterCoordinates {");
-            writer.println("    public static final Map<String, Coordinate> ALL_COORDINATES;");
-            Map<String, String> coordinatesMap = new LinkedHashMap<>();
+            Map<String, String> coordinatesMap = new TreeMap<>();
             VersionCatalog versionCatalog = getVersionCatalog().get();
             writeDependencies(writer, coordinatesMap, versionCatalog, true);
             writeDependencies(writer, coordinatesMap, versionCatalog, false);
             writer.println("");
-            writer.println("   static {");
-            writer.println("        Map<String, Coordinate> coordinates = new HashMap<>();");
-            for (Map.Entry<String, String> entry : coordinatesMap.entrySet()) {
-                writer.println("        coordinates.put(\"" + entry.getKey() + "\", " + entry.getValue() + ");");
+            writer.println("    private static final String[] ARTIFACT_IDS = {");
+            for (String artifactId : coordinatesMap.keySet()) {
+                writer.println("        \"" + artifactId + "\",");
             }
-            writer.println("        ALL_COORDINATES = Collections.unmodifiableMap(coordinates);");
-            writer.println("    }");
+            writer.println("    };");
+            writer.println("");
+            writer.println("    private static final Coordinate[] COORDINATES_BY_ARTIFACT_ID = {");
+            for (String name : coordinatesMap.values()) {
+                writer.println("        " + name + ",");
+            }
+            writer.println("    };");
+            writer.println("");
+            writer.println("    public static final Map<String, Coordinate> ALL_COORDINATES = new CoordinateTable(ARTIFACT_IDS, COORDINATES_BY_ARTIFACT_ID);");
             writer.println("}");
         }
     }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.create.tar;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.micronaut.starter.api.TestFramework;
+import io.micronaut.starter.api.create.AbstractCreateController;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.io.TarOutputHandler;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Creates applications as compressed tar archives, which are smaller than ZIP archives since the files of a
+ * project are compressed together.
+ *
+ * @since 4.5.1
+ */
+@Controller
+@ExecuteOn(TaskExecutors.BLOCKING)
+public class TarCreateController extends AbstractCreateController {
+
+    public static final String MEDIA_TYPE_APPLICATION_GZIP = "application/gzip";
+    public static final String MEDIA_TYPE_APPLICATION_ZSTD = "application/zstd";
+    private static final Logger LOG = LoggerFactory.getLogger(TarCreateController.class);
+
+    /**
+     * @param projectGenerator The project generator
+     * @param eventPublisher   The event publisher
+     */
+    public TarCreateController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher) {
+        super(projectGenerator, eventPublisher);
+    }
+
+    /**
+     * Creates an application, generating a gzip compressed tar archive as the response.
+     *
+     * @param type     The application type
+     * @param name     The name of the application
+     * @param features The chosen features
+     * @param build    The build type (optional, defaults to Gradle)
+     * @param test     The test framework (optional, defaults to JUnit)
+     * @param lang     The language (optional, defaults to Java)
+     * @param javaVersion The JDK version
+     * @param userAgent The user agent
+     * @return A gzip compressed tar archive containing the generated application.
+     */
+    @Get(uri = "/create/{type}/{name}.tgz{?features,lang,build,test,javaVersion}", produces = MEDIA_TYPE_APPLICATION_GZIP)
+    @ApiResponse(
+            description = "A gzip compressed tar archive containing the generated application.",
+            content = @Content(
+                    mediaType = MEDIA_TYPE_APPLICATION_GZIP
+            )
+    )
+    public HttpResponse<Writable> createTgz(
+            ApplicationType type,
+            @Pattern(regexp = "[\\w\\d-_]+") String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent) {
+        return generateAppIntoTarFile(type, name, features, build, test, lang, javaVersion, userAgent, TarOutputHandler.Compression.GZIP, "tgz");
+    }
+
+    /**
+     * Creates an application, generating a zstd compressed tar archive as the response.
+     *
+     * @param type     The application type
+     * @param name     The name of the application
+     * @param features The chosen features
+     * @param build    The build type (optional, defaults to Gradle)
+     * @param test     The test framework (optional, defaults to JUnit)
+     * @param lang     The language (optional, defaults to Java)
+     * @param javaVersion The JDK version
+     * @param userAgent The user agent
+     * @return A zstd compressed tar archive containing the generated application.
+     */
+    @Get(uri = "/create/{type}/{name}.tar.zst{?features,lang,build,test,javaVersion}", produces = MEDIA_TYPE_APPLICATION_ZSTD)
+    @ApiResponse(
+            description = "A zstd compressed tar archive containing the generated application.",
+            content = @Content(
+                    mediaType = MEDIA_TYPE_APPLICATION_ZSTD
+            )
+    )
+    public HttpResponse<Writable> createTarZst(
+            ApplicationType type,
+            @Pattern(regexp = "[\\w\\d-_]+") String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Nullable @Header(HttpHeaders.USER_AGENT) String userAgent) {
+        return generateAppIntoTarFile(type, name, features, build, test, lang, javaVersion, userAgent, TarOutputHandler.Compression.ZSTD, "tar.zst");
+    }
+
+    private HttpResponse<Writable> generateAppIntoTarFile(
+            @NotNull ApplicationType type,
+            @NotNull String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool buildTool,
+            @Nullable TestFramework testFramework,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Nullable String userAgent,
+            TarOutputHandler.Compression compression,
+            String extension) {
+
+        GeneratorContext generatorContext = createProjectGeneratorContext(type, name, features, buildTool, testFramework, lang, javaVersion, userAgent);
+        MutableHttpResponse<Writable> response = HttpResponse.created(new Writable() {
+            @Override
+            public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+                try {
+                    Project project = generatorContext.getProject();
+                    projectGenerator.generate(type,
+                            project,
+                            new TarOutputHandler(project.getName(), outputStream, compression),
+                            generatorContext);
+                    outputStream.flush();
+                } catch (Exception e) {
+                    LOG.error("Error generating application: {}", e.getMessage(), e);
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public void writeTo(Writer out) {
+                // no-op, output stream used
+            }
+        });
+        return response.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + generatorContext.getProject().getName() + "." + extension);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.create.zip;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size bounded, least recently used cache of generated ZIP archives. Archives are keyed by a hash of the
+ * normalized generation request so that equivalent requests share a single entry regardless of the order
+ * in which features were requested.
+ *
+ * @since 4.5.1
+ */
+@Singleton
+public class ZipCache {
+
+    private final ZipCacheConfiguration configuration;
+    private final Map<String, byte[]> archives = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long size;
+
+    /**
+     * @param configuration The cache configuration
+     */
+    public ZipCache(ZipCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return Whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return configuration.isEnabled() && configuration.getMaxSize() > 0;
+    }
+
+    /**
+     * Computes the cache key of a generation request. The key covers everything that influences the generated
+     * archive: the application type, the project naming, the resolved options, the operating system and the
+     * final set of features.
+     *
+     * @param applicationType The application type
+     * @param generatorContext The generator context, before the features are applied
+     * @return The cache key
+     */
+    @NonNull
+    public static String key(@NonNull ApplicationType applicationType, @NonNull GeneratorContext generatorContext) {
+        Project project = generatorContext.getProject();
+        StringBuilder builder = new StringBuilder(256)
+                .append(applicationType.getName()).append('\n')
+                .append(generatorContext.getFramework()).append('\n')
+                .append(project.getName()).append('\n')
+                .append(project.getPackageName()).append('\n')
+                .append(project.getClassName()).append('\n')
+                .append(generatorContext.getLanguage()).append('\n')
+                .append(generatorContext.getTestFramework()).append('\n')
+                .append(generatorContext.getBuildTool()).append('\n')
+                .append(generatorContext.getJdkVersion().majorVersion()).append('\n')
+                .append(generatorContext.getOperatingSystem()).append('\n')
+                .append(new TreeMap<>(generatorContext.getAdditionalOptions())).append('\n');
+        List<String> features = new ArrayList<>(generatorContext.getFeatures());
+        features.sort(String::compareTo);
+        for (String feature : features) {
+            builder.append(feature).append(',');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @param key The cache key
+     * @return The cached archive or null if there is none. The returned array must not be modified.
+     */
+    @Nullable
+    public synchronized byte[] get(@NonNull String key) {
+        byte[] archive = archives.get(key);
+        if (archive == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return archive;
+    }
+
+    /**
+     * Stores an archive, evicting the least recently used archives until the cache fits its configured size.
+     *
+     * @param key The cache key
+     * @param archive The archive. The array must not be modified once stored.
+     */
+    public synchronized void put(@NonNull String key, @NonNull byte[] archive) {
+        if (archive.length > configuration.getMaxEntrySize() || archive.length > configuration.getMaxSize()) {
+            return;
+        }
+        byte[] previous = archives.put(key, archive);
+        if (previous != null) {
+            size -= previous.length;
+        }
+        size += archive.length;
+        Iterator<byte[]> iterator = archives.values().iterator();
+        while (size > configuration.getMaxSize() && iterator.hasNext()) {
+            size -= iterator.next().length;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes all archives from the cache.
+     */
+    public synchronized void clear() {
+        archives.clear();
+        size = 0;
+    }
+
+    /**
+     * @return The number of cached archives
+     */
+    public synchronized int getCount() {
+        return archives.size();
+    }
+
+    /**
+     * @return The number of bytes currently cached
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The number of lookups which found an archive
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups which did not find an archive
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of archives evicted to respect the size bound
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+}
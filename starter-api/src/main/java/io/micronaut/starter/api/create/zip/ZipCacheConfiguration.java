@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.create.zip;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.starter.api.StarterConfiguration;
+
+/**
+ * Configures the cache of generated ZIP archives.
+ *
+ * @since 4.5.1
+ */
+@ConfigurationProperties(ZipCacheConfiguration.PREFIX)
+public class ZipCacheConfiguration {
+    public static final String PREFIX = StarterConfiguration.PREFIX + ".zip-cache";
+
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 4L * 1024 * 1024;
+
+    private boolean enabled;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+
+    /**
+     * @return Whether generated archives are cached. Defaults to false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether generated archives are cached
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of bytes held by the cache before the least recently used archives are evicted
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize The maximum number of bytes held by the cache
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return The size in bytes above which a single archive is never cached
+     */
+    public long getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * @param maxEntrySize The size in bytes above which a single archive is never cached
+     */
+    public void setMaxEntrySize(long maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+}
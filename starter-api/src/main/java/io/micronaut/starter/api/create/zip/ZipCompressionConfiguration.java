@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.create.zip;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.api.StarterConfiguration;
+import io.micronaut.starter.io.ZipCompressionPolicy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Configures how the entries of generated ZIP archives are compressed, for example
+ * {@code micronaut.starter.zip-compression.rules.jar=stored}. The defaults deflate every entry with the default level.
+ *
+ * @since 4.5.1
+ */
+@ConfigurationProperties(ZipCompressionConfiguration.PREFIX)
+public class ZipCompressionConfiguration {
+    public static final String PREFIX = StarterConfiguration.PREFIX + ".zip-compression";
+
+    private int level = Deflater.DEFAULT_COMPRESSION;
+    private Map<String, ZipCompressionPolicy.Method> rules = new LinkedHashMap<>();
+    private long storedThreshold;
+    private int parallelism;
+    private ZipCompressionPolicy policy;
+
+    /**
+     * @return The deflate level, from 0 to 9 or -1 for the default level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @param level The deflate level, from 0 to 9 or -1 for the default level
+     */
+    public void setLevel(int level) {
+        this.level = level;
+        policy = null;
+    }
+
+    /**
+     * @return The compression method of the entries by file extension
+     */
+    @NonNull
+    public Map<String, ZipCompressionPolicy.Method> getRules() {
+        return rules;
+    }
+
+    /**
+     * @param rules The compression method of the entries by file extension, for example {@code jar: stored}
+     */
+    public void setRules(@NonNull Map<String, ZipCompressionPolicy.Method> rules) {
+        this.rules = rules;
+        policy = null;
+    }
+
+    /**
+     * @return The size in bytes below which entries are stored. Defaults to 0.
+     */
+    public long getStoredThreshold() {
+        return storedThreshold;
+    }
+
+    /**
+     * @param storedThreshold The size in bytes below which entries are stored
+     */
+    public void setStoredThreshold(long storedThreshold) {
+        this.storedThreshold = storedThreshold;
+        policy = null;
+    }
+
+    /**
+     * @return The number of threads compressing the entries of all archives. Values lower than 2 compress the entries on the writing thread, which is the default.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Entries compressed concurrently are not necessarily written in the order they were generated.
+     *
+     * @param parallelism The number of threads, shared by all requests, compressing the entries of the archives
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        policy = null;
+    }
+
+    /**
+     * @return The compression policy
+     */
+    @NonNull
+    public ZipCompressionPolicy toPolicy() {
+        ZipCompressionPolicy current = policy;
+        if (current == null) {
+            current = new ZipCompressionPolicy(level, rules, storedThreshold, parallelism);
+            policy = current;
+        }
+        return current;
+    }
+}
@@ -34,6 +34,7 @@ import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.io.ZipCompressionPolicy;
 import io.micronaut.starter.io.ZipOutputHandler;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.JdkVersion;
@@ -43,14 +44,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implements the {@link ZipCreateOperation} interface for applications.
@@ -65,6 +72,10 @@ public class ZipCreateController extends AbstractCreateController implements Zip
     public static final String MEDIA_TYPE_APPLICATION_ZIP = "application/zip";
     private static final Logger LOG = LoggerFactory.getLogger(ZipCreateController.class);
 
+    private final ZipCache zipCache;
+    private final ZipCompressionPolicy compressionPolicy;
+    private ExecutorService compressionExecutor;
+
     /**
      * Default constructor.
      *
@@ -72,7 +83,32 @@ public class ZipCreateController extends AbstractCreateController implements Zip
      * @param eventPublisher   The event publisher
      */
     public ZipCreateController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher) {
+        this(projectGenerator, eventPublisher, new ZipCache(new ZipCacheConfiguration()));
+    }
+
+    /**
+     * @param projectGenerator The project generator
+     * @param eventPublisher   The event publisher
+     * @param zipCache         The cache of generated archives
+     */
+    public ZipCreateController(ProjectGenerator projectGenerator, ApplicationEventPublisher eventPublisher, ZipCache zipCache) {
+        this(projectGenerator, eventPublisher, zipCache, new ZipCompressionConfiguration());
+    }
+
+    /**
+     * @param projectGenerator         The project generator
+     * @param eventPublisher           The event publisher
+     * @param zipCache                 The cache of generated archives
+     * @param compressionConfiguration The compression of the archive entries
+     */
+    @Inject
+    public ZipCreateController(ProjectGenerator projectGenerator,
+                               ApplicationEventPublisher eventPublisher,
+                               ZipCache zipCache,
+                               ZipCompressionConfiguration compressionConfiguration) {
         super(projectGenerator, eventPublisher);
+        this.zipCache = zipCache;
+        this.compressionPolicy = compressionConfiguration.toPolicy();
     }
 
     /**
@@ -147,15 +183,30 @@ public class ZipCreateController extends AbstractCreateController implements Zip
             @Nullable String userAgent) {
 
         GeneratorContext generatorContext = createProjectGeneratorContext(type, name, features, buildTool, testFramework, lang, javaVersion, userAgent);
+        String cacheKey = zipCache.isEnabled() ? ZipCache.key(type, generatorContext) : null;
         MutableHttpResponse<Writable> response = HttpResponse.created(new Writable() {
             @Override
             public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
                 try {
                     final Project project = generatorContext.getProject();
-                    projectGenerator.generate(type,
-                            project,
-                            new ZipOutputHandler(project.getName(), outputStream),
-                            generatorContext);
+                    if (cacheKey != null) {
+                        byte[] archive = zipCache.get(cacheKey);
+                        if (archive == null) {
+                            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+                            projectGenerator.generate(type,
+                                    project,
+                                    new ZipOutputHandler(project.getName(), buffer, compressionPolicy, getCompressionExecutor()),
+                                    generatorContext);
+                            archive = buffer.toByteArray();
+                            zipCache.put(cacheKey, archive);
+                        }
+                        outputStream.write(archive);
+                    } else {
+                        projectGenerator.generate(type,
+                                project,
+                                new ZipOutputHandler(project.getName(), outputStream, compressionPolicy, getCompressionExecutor()),
+                                generatorContext);
+                    }
 
                     outputStream.flush();
                 } catch (Exception e) {
@@ -179,4 +230,28 @@ public class ZipCreateController extends AbstractCreateController implements Zip
     protected @NonNull String getFilename(@NonNull Project project) {
         return project.getName() + ".zip";
     }
+
+    /**
+     * @return The executor deflating the entries of every archive or null if entries are deflated on the writing thread
+     */
+    @Nullable
+    private synchronized ExecutorService getCompressionExecutor() {
+        if (compressionExecutor == null && compressionPolicy.isParallel()) {
+            AtomicInteger count = new AtomicInteger();
+            compressionExecutor = Executors.newFixedThreadPool(compressionPolicy.getParallelism(), runnable -> {
+                Thread thread = new Thread(runnable, "starter-zip-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compressionExecutor;
+    }
+
+    @PreDestroy
+    synchronized void shutdownCompressionExecutor() {
+        if (compressionExecutor != null) {
+            compressionExecutor.shutdownNow();
+            compressionExecutor = null;
+        }
+    }
 }
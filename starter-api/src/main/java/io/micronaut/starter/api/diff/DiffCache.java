@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.diff;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.OperatingSystem;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.options.TestFramework;
+import jakarta.inject.Singleton;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size bounded, least recently used cache of the diffs of single features against the default project.
+ *
+ * @since 4.5.1
+ */
+@Singleton
+public class DiffCache {
+
+    private final DiffCacheConfiguration configuration;
+    private final Map<Key, String> diffs = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long size;
+
+    /**
+     * @param configuration The cache configuration
+     */
+    public DiffCache(DiffCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return Whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return configuration.isEnabled() && configuration.getMaxSize() > 0;
+    }
+
+    /**
+     * @param key The cache key
+     * @return The cached diff or null if there is none
+     */
+    @Nullable
+    public synchronized String get(@NonNull Key key) {
+        String diff = diffs.get(key);
+        if (diff == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return diff;
+    }
+
+    /**
+     * Stores a diff, evicting the least recently used diffs until the cache fits its configured size.
+     *
+     * @param key The cache key
+     * @param diff The diff
+     */
+    public synchronized void put(@NonNull Key key, @NonNull String diff) {
+        if (diff.length() > configuration.getMaxSize()) {
+            return;
+        }
+        String previous = diffs.put(key, diff);
+        if (previous != null) {
+            size -= previous.length();
+        }
+        size += diff.length();
+        Iterator<String> iterator = diffs.values().iterator();
+        while (size > configuration.getMaxSize() && iterator.hasNext()) {
+            size -= iterator.next().length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @param key The cache key
+     * @return Whether a diff is cached for the given key
+     */
+    public synchronized boolean contains(@NonNull Key key) {
+        return diffs.containsKey(key);
+    }
+
+    /**
+     * @return The number of cached diffs
+     */
+    public synchronized int getCount() {
+        return diffs.size();
+    }
+
+    /**
+     * @return The number of characters currently cached
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The number of lookups which found a diff
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups which did not find a diff
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Everything the diff of a single feature against the default project depends on.
+     *
+     * @param applicationType The application type
+     * @param feature The feature
+     * @param language The language
+     * @param buildTool The build tool
+     * @param testFramework The test framework
+     * @param javaVersion The JDK version
+     * @param operatingSystem The operating system
+     */
+    public record Key(@NonNull ApplicationType applicationType,
+                      @NonNull String feature,
+                      @NonNull Language language,
+                      @NonNull BuildTool buildTool,
+                      @NonNull TestFramework testFramework,
+                      @NonNull JdkVersion javaVersion,
+                      @Nullable OperatingSystem operatingSystem) {
+
+        /**
+         * @param applicationType The application type
+         * @param feature The feature
+         * @param options The options
+         * @param operatingSystem The operating system
+         * @return The cache key
+         */
+        @NonNull
+        public static Key of(@NonNull ApplicationType applicationType,
+                             @NonNull String feature,
+                             @NonNull Options options,
+                             @Nullable OperatingSystem operatingSystem) {
+            return new Key(applicationType, feature, options.getLanguage(), options.getBuildTool(), options.getTestFramework(), options.getJavaVersion(), operatingSystem);
+        }
+    }
+}
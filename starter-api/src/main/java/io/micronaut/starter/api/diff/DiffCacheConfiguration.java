@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.diff;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.starter.api.StarterConfiguration;
+
+/**
+ * Configures the cache of feature diffs.
+ *
+ * @since 4.5.1
+ */
+@ConfigurationProperties(DiffCacheConfiguration.PREFIX)
+public class DiffCacheConfiguration {
+    public static final String PREFIX = StarterConfiguration.PREFIX + ".diff-cache";
+
+    public static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+
+    private boolean enabled;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private boolean warmup;
+
+    /**
+     * @return Whether feature diffs are cached. Defaults to false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether feature diffs are cached
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of characters held by the cache before the least recently used diffs are evicted
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize The maximum number of characters held by the cache
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return Whether the diffs of every visible feature of the default application type are computed in the background on startup. Defaults to false.
+     */
+    public boolean isWarmup() {
+        return warmup;
+    }
+
+    /**
+     * @param warmup Whether the diffs are computed in the background on startup
+     */
+    public void setWarmup(boolean warmup) {
+        this.warmup = warmup;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.diff;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.OperatingSystem;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.diff.FeatureDiffer;
+import io.micronaut.starter.feature.AvailableFeatures;
+import io.micronaut.starter.feature.Feature;
+import io.micronaut.starter.io.ConsoleOutput;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.MicronautJdkVersionConfiguration;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.util.NameUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the diff of every visible feature of the default application type in the background on startup, for the
+ * default build tool and test framework of every language and for the operating systems browsers report, so that
+ * {@link DiffController} serves them from the {@link DiffCache}.
+ *
+ * @since 4.5.1
+ */
+@Singleton
+@Requires(property = DiffCacheConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+@Requires(property = DiffCacheConfiguration.PREFIX + ".warmup", value = StringUtils.TRUE)
+public class DiffCacheWarmer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DiffCacheWarmer.class);
+    private static final OperatingSystem[] OPERATING_SYSTEMS = {OperatingSystem.LINUX, OperatingSystem.MACOS, OperatingSystem.WINDOWS};
+
+    private final ProjectGenerator projectGenerator;
+    private final FeatureDiffer featureDiffer;
+    private final DiffCache diffCache;
+    private final AvailableFeatures availableFeatures;
+    private final Project project = NameUtils.parse("example");
+    private volatile Thread thread;
+
+    /**
+     * @param projectGenerator The project generator
+     * @param featureDiffer The feature differ
+     * @param diffCache The cache of feature diffs
+     * @param beanLocator The bean locator
+     */
+    public DiffCacheWarmer(ProjectGenerator projectGenerator,
+                           FeatureDiffer featureDiffer,
+                           DiffCache diffCache,
+                           BeanLocator beanLocator) {
+        this.projectGenerator = projectGenerator;
+        this.featureDiffer = featureDiffer;
+        this.diffCache = diffCache;
+        this.availableFeatures = beanLocator.getBean(AvailableFeatures.class, Qualifiers.byName(ApplicationType.DEFAULT.getName()));
+    }
+
+    @EventListener
+    void onStartup(StartupEvent event) {
+        Thread warmup = new Thread(this::warmup, "starter-diff-warmup");
+        warmup.setDaemon(true);
+        warmup.setPriority(Thread.MIN_PRIORITY);
+        thread = warmup;
+        warmup.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        Thread warmup = thread;
+        if (warmup != null) {
+            warmup.interrupt();
+        }
+    }
+
+    /**
+     * Computes the diffs which are not cached yet.
+     */
+    void warmup() {
+        List<String> features = availableFeatures.getFeatures().map(Feature::getName).toList();
+        int count = 0;
+        for (Language language : Language.values()) {
+            Options options = new Options(language,
+                    language.getDefaults().getTest(),
+                    language.getDefaults().getBuild(),
+                    MicronautJdkVersionConfiguration.DEFAULT_OPTION);
+            for (OperatingSystem operatingSystem : OPERATING_SYSTEMS) {
+                for (String feature : features) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    DiffCache.Key key = DiffCache.Key.of(ApplicationType.DEFAULT, feature, options, operatingSystem);
+                    if (diffCache.contains(key)) {
+                        continue;
+                    }
+                    try {
+                        GeneratorContext generatorContext = projectGenerator.createGeneratorContext(ApplicationType.DEFAULT,
+                                project, options, operatingSystem, Collections.singletonList(feature), ConsoleOutput.NOOP);
+                        DiffOutput output = new DiffOutput(true, null);
+                        featureDiffer.produceDiff(projectGenerator, generatorContext, output);
+                        diffCache.put(key, output.toString());
+                        count++;
+                    } catch (Exception e) {
+                        // features which do not support the combination are diffed live and fail there as usual
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Could not precompute the diff of feature {} for {}: {}", feature, options, e.getMessage());
+                        }
+                    }
+                }
+            }
+        }
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Precomputed {} feature diffs", count);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.starter.api.RequestInfo;
 import io.micronaut.starter.api.UserAgentParser;
 import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.OperatingSystem;
 import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.application.generator.ProjectGenerator;
@@ -43,6 +44,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 
+import jakarta.inject.Inject;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -59,9 +61,9 @@ import java.util.List;
 @Controller("/diff")
 public class DiffController implements DiffOperations {
 
-    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
     private final ProjectGenerator projectGenerator;
     private final FeatureDiffer featureDiffer;
+    private final DiffCache diffCache;
     private final Project project;
 
     /**
@@ -70,8 +72,20 @@ public class DiffController implements DiffOperations {
      * @param featureDiffer The feature differ
      */
     public DiffController(ProjectGenerator projectGenerator, FeatureDiffer featureDiffer) {
+        this(projectGenerator, featureDiffer, new DiffCache(new DiffCacheConfiguration()));
+    }
+
+    /**
+     * @param projectGenerator The project generator
+     * @param featureDiffer The feature differ
+     * @param diffCache The cache of feature diffs
+     * @since 4.5.1
+     */
+    @Inject
+    public DiffController(ProjectGenerator projectGenerator, FeatureDiffer featureDiffer, DiffCache diffCache) {
         this.projectGenerator = projectGenerator;
         this.featureDiffer = featureDiffer;
+        this.diffCache = diffCache;
         this.project = NameUtils.parse("example");
     }
 
@@ -105,6 +119,7 @@ public class DiffController implements DiffOperations {
 
         ProjectGenerator projectGenerator;
         GeneratorContext generatorContext;
+        DiffCache.Key key = null;
         try {
             Project project = name != null ? NameUtils.parse(name) : this.project;
             Language language = lang != null ? lang : Language.DEFAULT_OPTION;
@@ -114,12 +129,20 @@ public class DiffController implements DiffOperations {
                     build != null ? build : language.getDefaults().getBuild(),
                     javaVersion != null ? javaVersion : MicronautJdkVersionConfiguration.DEFAULT_OPTION
             );
+            OperatingSystem operatingSystem = UserAgentParser.getOperatingSystem(requestInfo.getUserAgent());
+            if (name == null && diffCache.isEnabled()) {
+                key = DiffCache.Key.of(type, feature, options, operatingSystem);
+                String diff = diffCache.get(key);
+                if (diff != null) {
+                    return Flux.just("", diff);
+                }
+            }
             projectGenerator = this.projectGenerator;
             generatorContext = projectGenerator.createGeneratorContext(
                     type,
                     project,
                     options,
-                    UserAgentParser.getOperatingSystem(requestInfo.getUserAgent()),
+                    operatingSystem,
                     Collections.singletonList(feature),
                     ConsoleOutput.NOOP
             );
@@ -127,7 +150,7 @@ public class DiffController implements DiffOperations {
             throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
 
-        return diffFlowable(projectGenerator, generatorContext);
+        return diffFlowable(projectGenerator, generatorContext, key);
     }
 
     /**
@@ -179,45 +202,24 @@ public class DiffController implements DiffOperations {
             throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
 
-        return diffFlowable(projectGenerator, generatorContext);
+        return diffFlowable(projectGenerator, generatorContext, null);
     }
 
-    private Publisher<String> diffFlowable(ProjectGenerator projectGenerator, GeneratorContext generatorContext) {
+    private Publisher<String> diffFlowable(ProjectGenerator projectGenerator, GeneratorContext generatorContext, @Nullable DiffCache.Key key) {
         return Flux.create(emitter -> {
             try {
                 // empty string so there is at least some content
                 // if there is no difference
                 emitter.next("");
+                DiffOutput output = new DiffOutput(key != null, emitter::next);
                 featureDiffer.produceDiff(
                         projectGenerator,
                         generatorContext,
-                        new ConsoleOutput() {
-                            @Override
-                            public void out(String message) {
-                                emitter.next(message + LINE_SEPARATOR);
-                            }
-
-                            @Override
-                            public void err(String message) {
-                                // will never be called
-                            }
-
-                            @Override
-                            public void warning(String message) {
-                                // will never be called
-                            }
-
-                            @Override
-                            public boolean showStacktrace() {
-                                return false;
-                            }
-
-                            @Override
-                            public boolean verbose() {
-                                return false;
-                            }
-                        }
+                        output
                 );
+                if (key != null) {
+                    diffCache.put(key, output.toString());
+                }
                 emitter.complete();
             } catch (Exception e) {
                 emitter.error(new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Could not produce diff: " + e.getMessage()));
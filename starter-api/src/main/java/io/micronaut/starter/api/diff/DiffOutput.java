@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.diff;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.io.ConsoleOutput;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects the lines of a diff, optionally forwarding every line as it is produced.
+ *
+ * @since 4.5.1
+ */
+final class DiffOutput implements ConsoleOutput {
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final StringBuilder diff;
+    private final Consumer<String> consumer;
+
+    /**
+     * @param collect Whether the lines are collected
+     * @param consumer The consumer of every line, if any
+     */
+    DiffOutput(boolean collect, @Nullable Consumer<String> consumer) {
+        this.diff = collect ? new StringBuilder(1024) : null;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void out(String message) {
+        String line = message + LINE_SEPARATOR;
+        if (diff != null) {
+            diff.append(line);
+        }
+        if (consumer != null) {
+            consumer.accept(line);
+        }
+    }
+
+    @Override
+    public void err(String message) {
+        // will never be called
+    }
+
+    @Override
+    public void warning(String message) {
+        // will never be called
+    }
+
+    @Override
+    public boolean showStacktrace() {
+        return false;
+    }
+
+    @Override
+    public boolean verbose() {
+        return false;
+    }
+
+    /**
+     * @return The collected diff
+     */
+    @Override
+    public String toString() {
+        return diff == null ? "" : diff.toString();
+    }
+}
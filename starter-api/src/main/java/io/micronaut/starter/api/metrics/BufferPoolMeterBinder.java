@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.io.BufferPool;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the utilization of the {@link BufferPool} templates are rendered into, to size it for the heap.
+ *
+ * @since 4.5.1
+ */
+@Singleton
+@Requires(classes = MeterBinder.class)
+@Requires(beans = MeterRegistry.class)
+public class BufferPoolMeterBinder implements MeterBinder {
+
+    public static final String PREFIX = "starter.buffer.pool";
+
+    private final BufferPool bufferPool;
+
+    public BufferPoolMeterBinder(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".in.use", bufferPool, BufferPool::getInUse)
+                .description("Buffers acquired and not yet released")
+                .register(registry);
+        Gauge.builder(PREFIX + ".idle", bufferPool, BufferPool::getIdle)
+                .description("Idle buffers held by the pool")
+                .register(registry);
+        Gauge.builder(PREFIX + ".idle.bytes", bufferPool, BufferPool::getIdleBytes)
+                .description("Bytes held by idle buffers")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".allocated", bufferPool, BufferPool::getAllocated)
+                .description("Buffers allocated because the pool was empty")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".reused", bufferPool, BufferPool::getReused)
+                .description("Acquisitions served by an idle buffer")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".discarded", bufferPool, BufferPool::getDiscarded)
+                .description("Released buffers dropped because the pool was full or they were too large")
+                .register(registry);
+    }
+}
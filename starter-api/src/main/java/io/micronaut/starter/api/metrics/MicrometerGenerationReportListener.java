@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.starter.application.generator.GenerationPhase;
+import io.micronaut.starter.application.generator.GenerationReport;
+import io.micronaut.starter.application.generator.GenerationReportListener;
+import jakarta.inject.Singleton;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@link GenerationReport} of every generated project as Micrometer meters:
+ * <ul>
+ *     <li>{@value #PHASE_TIMER}, tagged with the phase and the application type</li>
+ *     <li>{@value #FEATURE_TIMER}, tagged with the feature</li>
+ *     <li>{@value #TEMPLATE_TIMER} and {@value #TEMPLATE_BYTES}, tagged with the application type</li>
+ * </ul>
+ * Enabled with {@code micronaut.starter.generator.metrics.enabled} when a {@link MeterRegistry} is present.
+ *
+ * @since 4.5.1
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerGenerationReportListener.ENABLED, value = StringUtils.TRUE)
+public class MicrometerGenerationReportListener implements GenerationReportListener {
+
+    public static final String ENABLED = "micronaut.starter.generator.metrics.enabled";
+    public static final String PHASE_TIMER = "starter.generation.phase";
+    public static final String FEATURE_TIMER = "starter.generation.feature.apply";
+    public static final String TEMPLATE_TIMER = "starter.generation.template.render";
+    public static final String TEMPLATE_BYTES = "starter.generation.template.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    public MicrometerGenerationReportListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onGenerated(@NonNull GenerationReport report) {
+        String type = report.getApplicationType().getName();
+        for (Map.Entry<GenerationPhase, Long> phase : report.getPhases().entrySet()) {
+            Timer.builder(PHASE_TIMER)
+                    .tag("phase", phase.getKey().name().toLowerCase(Locale.ENGLISH))
+                    .tag("type", type)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(phase.getValue(), TimeUnit.NANOSECONDS);
+        }
+        for (Map.Entry<String, Long> feature : report.getFeatures().entrySet()) {
+            Timer.builder(FEATURE_TIMER)
+                    .tag("feature", feature.getKey())
+                    .register(meterRegistry)
+                    .record(feature.getValue(), TimeUnit.NANOSECONDS);
+        }
+        Timer templateTimer = Timer.builder(TEMPLATE_TIMER)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary templateBytes = DistributionSummary.builder(TEMPLATE_BYTES)
+                .baseUnit("bytes")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (GenerationReport.TemplateTiming template : report.getTemplates()) {
+            templateTimer.record(template.nanos(), TimeUnit.NANOSECONDS);
+            templateBytes.record(template.bytes());
+        }
+    }
+}
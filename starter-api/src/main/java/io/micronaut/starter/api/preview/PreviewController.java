@@ -28,6 +28,8 @@ import io.micronaut.starter.api.TestFramework;
 import io.micronaut.starter.api.create.AbstractCreateController;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.ProjectFiles;
 import io.micronaut.starter.application.generator.ProjectGenerator;
 import io.micronaut.starter.io.ConsoleOutput;
 import io.micronaut.starter.io.MapOutputHandler;
@@ -43,8 +45,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 
 /**
  * Previews an application contents.
@@ -94,11 +98,7 @@ public class PreviewController extends AbstractCreateController implements Previ
             MapOutputHandler outputHandler = new MapOutputHandler();
             projectGenerator.generate(type,
                     project,
-                    new Options(
-                            lang,
-                            test != null ? test.toTestFramework() : null,
-                            build == null ? BuildTool.DEFAULT_OPTION : build,
-                            javaVersion == null ? MicronautJdkVersionConfiguration.DEFAULT_OPTION : javaVersion),
+                    options(build, test, lang, javaVersion),
                     getOperatingSystem(requestInfo.getUserAgent()),
                     features == null ? Collections.emptyList() : features,
                     outputHandler,
@@ -116,4 +116,113 @@ public class PreviewController extends AbstractCreateController implements Previ
         }
     }
 
+    /**
+     * Lists the files of a generated application without rendering them, so that they can be previewed one at a time.
+     * @param type The application type
+     * @param name The name of the application
+     * @param features The chosen features
+     * @param build The build type (optional, defaults to Gradle)
+     * @param test The test framework (optional, defaults to JUnit)
+     * @param lang The language (optional, defaults to Java)
+     * @param javaVersion The jdk version (optional, defaults to {@link MicronautJdkVersionConfiguration#DEFAULT_OPTION})
+     * @return The paths of the files, with their sizes when known without rendering them
+     */
+    @Get(uri = "/{type}/{name}/files{?features,lang,build,test,javaVersion}", produces = MediaType.APPLICATION_JSON)
+    @Override
+    public PreviewFilesDTO previewFiles(
+            ApplicationType type,
+            String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException {
+        ProjectFiles projectFiles = resolveFiles(type, name, features, build, test, lang, javaVersion, requestInfo);
+        Map<String, Long> files = new LinkedHashMap<>();
+        for (String path : projectFiles.getTemplates().keySet()) {
+            OptionalLong size = projectFiles.getSize(path);
+            files.put(path, size.isPresent() ? size.getAsLong() : null);
+        }
+        PreviewFilesDTO previewFilesDTO = new PreviewFilesDTO(files);
+        previewFilesDTO.addLink(Relationship.CREATE, requestInfo.link(Relationship.CREATE, type));
+        previewFilesDTO.addLink(Relationship.SELF, requestInfo.self());
+        return previewFilesDTO;
+    }
+
+    /**
+     * Previews a single file of a generated application. Only the template of that file is rendered.
+     * @param type The application type
+     * @param name The name of the application
+     * @param path The path of the file, as listed by the files preview
+     * @param features The chosen features
+     * @param build The build type (optional, defaults to Gradle)
+     * @param test The test framework (optional, defaults to JUnit)
+     * @param lang The language (optional, defaults to Java)
+     * @param javaVersion The jdk version (optional, defaults to {@link MicronautJdkVersionConfiguration#DEFAULT_OPTION})
+     * @return The contents of the file, null for a binary file
+     */
+    @Get(uri = "/{type}/{name}/file{?path,features,lang,build,test,javaVersion}", produces = MediaType.APPLICATION_JSON)
+    @Override
+    public PreviewFileDTO previewFile(
+            ApplicationType type,
+            String name,
+            String path,
+            @Nullable List<String> features,
+            @Nullable BuildTool build,
+            @Nullable TestFramework test,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException {
+        ProjectFiles projectFiles = resolveFiles(type, name, features, build, test, lang, javaVersion, requestInfo);
+        if (projectFiles.getTemplate(path).isEmpty()) {
+            throw new HttpStatusException(HttpStatus.NOT_FOUND, "The requested file does not exist: " + path);
+        }
+        String contents;
+        try {
+            contents = projectFiles.renderText(path).orElse(null);
+        } catch (Exception e) {
+            LOG.error("Error rendering file {}: {}", path, e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+        PreviewFileDTO previewFileDTO = new PreviewFileDTO(path, contents);
+        previewFileDTO.addLink(Relationship.SELF, requestInfo.self());
+        return previewFileDTO;
+    }
+
+    private ProjectFiles resolveFiles(ApplicationType type,
+                                      String name,
+                                      @Nullable List<String> features,
+                                      @Nullable BuildTool build,
+                                      @Nullable TestFramework test,
+                                      @Nullable Language lang,
+                                      @Nullable JdkVersion javaVersion,
+                                      RequestInfo requestInfo) throws IOException {
+        try {
+            Project project = NameUtils.parse(name);
+            GeneratorContext generatorContext = projectGenerator.createGeneratorContext(type,
+                    project,
+                    options(build, test, lang, javaVersion),
+                    getOperatingSystem(requestInfo.getUserAgent()),
+                    features == null ? Collections.emptyList() : features,
+                    ConsoleOutput.NOOP);
+            return projectGenerator.resolveFiles(type, project, generatorContext);
+        } catch (IllegalArgumentException e) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Error generating application: {}", e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Options options(@Nullable BuildTool build,
+                                   @Nullable TestFramework test,
+                                   @Nullable Language lang,
+                                   @Nullable JdkVersion javaVersion) {
+        return new Options(
+                lang,
+                test != null ? test.toTestFramework() : null,
+                build == null ? BuildTool.DEFAULT_OPTION : build,
+                javaVersion == null ? MicronautJdkVersionConfiguration.DEFAULT_OPTION : javaVersion);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.preview;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.starter.api.Linkable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A single previewed file.
+ *
+ * @since 4.5.1
+ */
+@Introspected
+@Schema(name = "PreviewFile", description = "Previews a single file of the generated ZIP")
+public class PreviewFileDTO extends Linkable {
+
+    private String path;
+
+    @JsonInclude
+    private String contents;
+
+    /**
+     * Constructor
+     */
+    public PreviewFileDTO() {
+    }
+
+    /**
+     * @param path The path of the file
+     * @param contents The contents of the file
+     */
+    public PreviewFileDTO(String path, String contents) {
+        this.path = path;
+        this.contents = contents;
+    }
+
+    /**
+     * @return The path of the file
+     */
+    @Schema(description = "The path of the file")
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @param path The path of the file
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return The contents of the file, null for a binary file
+     */
+    @Schema(description = "The contents of the file, null for a binary file")
+    public String getContents() {
+        return contents;
+    }
+
+    /**
+     * @param contents The contents of the file
+     */
+    public void setContents(String contents) {
+        this.contents = contents;
+    }
+}
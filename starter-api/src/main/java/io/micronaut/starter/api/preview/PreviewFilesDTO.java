@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.api.preview;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.starter.api.Linkable;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * The files of a preview, without their contents.
+ *
+ * @since 4.5.1
+ */
+@Introspected
+@Schema(name = "PreviewFiles", description = "Lists the files of the generated ZIP without rendering them")
+public class PreviewFilesDTO extends Linkable {
+
+    @JsonInclude
+    private Map<String, Long> files;
+
+    /**
+     * Constructor
+     */
+    public PreviewFilesDTO() {
+    }
+
+    /**
+     * @param files The sizes of the files by path
+     */
+    public PreviewFilesDTO(Map<String, Long> files) {
+        this.files = files;
+    }
+
+    /**
+     * @return The sizes of the files by path, null when the size is only known once the file is rendered
+     */
+    @Schema(description = "The sizes of the files by path, null when the size is only known once the file is rendered")
+    public Map<String, Long> getFiles() {
+        return files;
+    }
+
+    /**
+     * @param files The sizes of the files by path
+     */
+    public void setFiles(Map<String, Long> files) {
+        this.files = files;
+    }
+}
@@ -49,4 +49,50 @@ public interface PreviewOperations {
             @Nullable Language lang,
             @Nullable JdkVersion javaVersion,
             @Parameter(hidden = true) RequestInfo requestInfo) throws IOException;
+
+    /**
+     * Lists the files of an application without rendering them.
+     * @param type The application type
+     * @param name The name of the application
+     * @param features The features
+     * @param buildTool The build tool
+     * @param testFramework The test framework
+     * @param lang The lang
+     * @param javaVersion The JdkVersion
+     * @param requestInfo The request info
+     * @return The files of the application
+     */
+    PreviewFilesDTO previewFiles(
+            ApplicationType type,
+            String name,
+            @Nullable List<String> features,
+            @Nullable BuildTool buildTool,
+            @Nullable TestFramework testFramework,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException;
+
+    /**
+     * Previews a single file of an application, rendering only that file.
+     * @param type The application type
+     * @param name The name of the application
+     * @param path The path of the file
+     * @param features The features
+     * @param buildTool The build tool
+     * @param testFramework The test framework
+     * @param lang The lang
+     * @param javaVersion The JdkVersion
+     * @param requestInfo The request info
+     * @return The file
+     */
+    PreviewFileDTO previewFile(
+            ApplicationType type,
+            String name,
+            String path,
+            @Nullable List<String> features,
+            @Nullable BuildTool buildTool,
+            @Nullable TestFramework testFramework,
+            @Nullable Language lang,
+            @Nullable JdkVersion javaVersion,
+            @Parameter(hidden = true) RequestInfo requestInfo) throws IOException;
 }
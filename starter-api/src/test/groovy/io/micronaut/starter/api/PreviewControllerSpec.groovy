@@ -8,6 +8,8 @@ import io.micronaut.http.annotation.Get
 import io.micronaut.http.client.annotation.Client
 import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.starter.api.preview.PreviewDTO
+import io.micronaut.starter.api.preview.PreviewFileDTO
+import io.micronaut.starter.api.preview.PreviewFilesDTO
 import io.micronaut.starter.application.ApplicationType
 import io.micronaut.starter.options.BuildTool
 import io.micronaut.starter.options.JdkVersion
@@ -60,6 +62,38 @@ class PreviewControllerSpec extends Specification {
         jdkVersion << MicronautJdkVersionConfiguration.SUPPORTED_JDKS
     }
 
+    void "test files preview lists the files of the full preview"() {
+        when:
+        def preview = client.previewApp(ApplicationType.DEFAULT, "test", ['graalvm'], null, null, null, null)
+        def files = client.previewFiles(ApplicationType.DEFAULT, "test", ['graalvm'], null, null, null, null)
+
+        then:
+        files.files.keySet() == preview.contents.keySet()
+        files.files.get("gradle/wrapper/gradle-wrapper.jar") > 0
+    }
+
+    void "test file preview renders a single file"(String path) {
+        when:
+        def preview = client.previewApp(ApplicationType.DEFAULT, "test", ['graalvm'], null, null, null, null)
+        def file = client.previewFile(ApplicationType.DEFAULT, "test", path, ['graalvm'], null, null, null, null)
+
+        then:
+        file.path == path
+        file.contents == preview.contents.get(path)
+
+        where:
+        path << ["build.gradle.kts", "gradle.properties", "gradle/wrapper/gradle-wrapper.jar"]
+    }
+
+    void "test file preview - missing file"() {
+        when:
+        client.previewFile(ApplicationType.DEFAULT, "test", "missing.txt", [], null, null, null, null)
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.status == HttpStatus.NOT_FOUND
+    }
+
     @Client('/preview')
     static interface PreviewClient  {
         @Get(uri = "/default/{name}{?features,build,test,lang,javaVersion}", consumes = MediaType.APPLICATION_JSON)
@@ -72,5 +106,28 @@ class PreviewControllerSpec extends Specification {
                 @Nullable Language lang,
                 @Nullable JdkVersion javaVersion
         );
+
+        @Get(uri = "/default/{name}/files{?features,build,test,lang,javaVersion}", consumes = MediaType.APPLICATION_JSON)
+        PreviewFilesDTO previewFiles(
+                ApplicationType type,
+                String name,
+                @Nullable List<String> features,
+                @Nullable BuildTool build,
+                @Nullable TestFramework test,
+                @Nullable Language lang,
+                @Nullable JdkVersion javaVersion
+        );
+
+        @Get(uri = "/default/{name}/file{?path,features,build,test,lang,javaVersion}", consumes = MediaType.APPLICATION_JSON)
+        PreviewFileDTO previewFile(
+                ApplicationType type,
+                String name,
+                String path,
+                @Nullable List<String> features,
+                @Nullable BuildTool build,
+                @Nullable TestFramework test,
+                @Nullable Language lang,
+                @Nullable JdkVersion javaVersion
+        );
     }
 }
@@ -0,0 +1,25 @@
+package io.micronaut.starter.api.create.tar
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.starter.api.EmbeddedServerSpecification
+
+class TarCreateControllerSpec extends EmbeddedServerSpecification {
+
+    void "#path is served as a compressed tar archive"(String path, String fileName, List<Integer> magic) {
+        when:
+        HttpResponse<byte[]> response = client.exchange(HttpRequest.GET(path), byte[])
+        byte[] body = response.body()
+
+        then:
+        response.status() == HttpStatus.CREATED
+        response.header("Content-Disposition") == "attachment; filename=" + fileName
+        (0..<magic.size()).collect { body[it] & 0xff } == magic
+
+        where:
+        path                                         | fileName       | magic
+        '/create/default/demo.tgz?features=yaml'     | 'demo.tgz'     | [0x1f, 0x8b]
+        '/create/default/demo.tar.zst?features=yaml' | 'demo.tar.zst' | [0x28, 0xb5, 0x2f, 0xfd]
+    }
+}
@@ -0,0 +1,36 @@
+package io.micronaut.starter.api.create.zip
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.starter.api.EmbeddedServerSpecification
+import io.micronaut.starter.util.ZipUtil
+
+class ZipCacheControllerSpec extends EmbeddedServerSpecification {
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() + ['micronaut.starter.zip-cache.enabled': true]
+    }
+
+    void "repeated requests are served from the cache"() {
+        given:
+        ZipCache cache = applicationContext.getBean(ZipCache)
+
+        when:
+        byte[] first = client.retrieve(HttpRequest.GET('/create/default/test?features=graalvm,yaml'), byte[])
+        byte[] second = client.retrieve(HttpRequest.GET('/create/default/test?features=yaml,graalvm'), byte[])
+
+        then:
+        ZipUtil.isZip(first)
+        first == second
+        cache.misses == 1
+        cache.hits == 1
+
+        when:
+        byte[] renamed = client.retrieve(HttpRequest.GET('/create/default/other?features=graalvm,yaml'), byte[])
+
+        then:
+        ZipUtil.isZip(renamed)
+        renamed != first
+        cache.misses == 2
+    }
+}
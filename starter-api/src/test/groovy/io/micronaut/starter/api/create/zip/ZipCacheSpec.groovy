@@ -0,0 +1,35 @@
+package io.micronaut.starter.api.create.zip
+
+import spock.lang.Specification
+
+class ZipCacheSpec extends Specification {
+
+    void "least recently used archives are evicted once the cache exceeds its size"() {
+        given:
+        ZipCacheConfiguration configuration = new ZipCacheConfiguration(enabled: true, maxSize: 10, maxEntrySize: 8)
+        ZipCache cache = new ZipCache(configuration)
+
+        when:
+        cache.put("a", new byte[4])
+        cache.put("b", new byte[4])
+        cache.get("a")
+        cache.put("c", new byte[4])
+
+        then:
+        cache.get("a") != null
+        cache.get("b") == null
+        cache.get("c") != null
+        cache.size == 8
+        cache.count == 2
+        cache.evictions == 1
+        cache.hits == 3
+        cache.misses == 1
+
+        when: 'an archive is larger than the maximum entry size'
+        cache.put("d", new byte[9])
+
+        then:
+        cache.get("d") == null
+        cache.size == 8
+    }
+}
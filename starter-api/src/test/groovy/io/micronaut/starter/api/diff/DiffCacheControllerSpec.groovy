@@ -0,0 +1,36 @@
+package io.micronaut.starter.api.diff
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.starter.api.EmbeddedServerSpecification
+
+class DiffCacheControllerSpec extends EmbeddedServerSpecification {
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() + ['micronaut.starter.diff-cache.enabled': true]
+    }
+
+    void "repeated feature diffs are served from the cache"() {
+        given:
+        DiffCache cache = applicationContext.getBean(DiffCache)
+
+        when:
+        String first = client.retrieve(HttpRequest.GET('/diff/default/feature/data-jdbc'), String)
+        String second = client.retrieve(HttpRequest.GET('/diff/default/feature/data-jdbc'), String)
+
+        then:
+        first.contains('+## Feature data-jdbc documentation')
+        first == second
+        cache.misses == 1
+        cache.hits == 1
+        cache.count == 1
+
+        when:
+        String named = client.retrieve(HttpRequest.GET('/diff/default/feature/data-jdbc?name=other'), String)
+
+        then:
+        named.contains('+## Feature data-jdbc documentation')
+        cache.misses == 1
+        cache.count == 1
+    }
+}
@@ -0,0 +1,33 @@
+package io.micronaut.starter.api.metrics
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.application.generator.GenerationPhase
+import io.micronaut.starter.application.generator.GenerationReport
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class MicrometerGenerationReportListenerSpec extends Specification {
+
+    void "reports are published as timers and distribution summaries"() {
+        given:
+        SimpleMeterRegistry registry = new SimpleMeterRegistry()
+        MicrometerGenerationReportListener listener = new MicrometerGenerationReportListener(registry)
+        GenerationReport report = new GenerationReport(ApplicationType.DEFAULT)
+        report.phase(GenerationPhase.APPLY_FEATURES, 2_000_000)
+        report.phase(GenerationPhase.RENDERING, 5_000_000)
+        report.featureApplied("yaml", 1_000_000)
+        report.templateRendered("build.gradle", 3_000_000, 1200)
+        report.templateRendered("README.md", 1_000_000, 300)
+
+        when:
+        listener.onGenerated(report)
+
+        then:
+        registry.get(MicrometerGenerationReportListener.PHASE_TIMER).tags("phase", "rendering", "type", "default").timer().totalTime(TimeUnit.MILLISECONDS) == 5
+        registry.get(MicrometerGenerationReportListener.FEATURE_TIMER).tag("feature", "yaml").timer().count() == 1
+        registry.get(MicrometerGenerationReportListener.TEMPLATE_TIMER).timer().count() == 2
+        registry.get(MicrometerGenerationReportListener.TEMPLATE_BYTES).summary().totalAmount() == 1500
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.OperatingSystem;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.io.BufferPoolConfiguration;
+import io.micronaut.starter.io.ConsoleOutput;
+import io.micronaut.starter.io.ZipOutputHandler;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.util.NameUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares generating a project into a ZIP archive with and without rendering the templates into pooled buffers.
+ * The allocation rate reported by the gc profiler shows what the pool saves, or costs, per generated project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferPoolBenchmark {
+
+    private static final List<String> FEATURES = List.of("data-jdbc", "postgres", "flyway", "testcontainers", "yaml");
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private ApplicationContext applicationContext;
+    private ProjectGenerator projectGenerator;
+    private Project project;
+    private Options options;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = ApplicationContext.run(Map.of(BufferPoolConfiguration.PREFIX + ".enabled", pooled));
+        projectGenerator = applicationContext.getBean(ProjectGenerator.class);
+        project = NameUtils.parse("example.micronaut.demo");
+        options = new Options(Language.JAVA, Language.JAVA.getDefaults().getTest(), BuildTool.GRADLE, JdkVersion.JDK_17);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void generateToZip(Blackhole blackhole) throws Exception {
+        try (ZipOutputHandler outputHandler = new ZipOutputHandler(OutputStream.nullOutputStream())) {
+            projectGenerator.generate(ApplicationType.DEFAULT, project, options, OperatingSystem.LINUX, FEATURES, outputHandler, ConsoleOutput.NOOP);
+            blackhole.consume(outputHandler);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.benchmarks;
+
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.io.ConsoleOutput;
+import io.micronaut.starter.io.MapOutputHandler;
+import io.micronaut.starter.io.ZipOutputHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the phases of the project generation pipeline: resolving the features, creating the generator context,
+ * applying the features, rendering the project and diffing it against the default project.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Benchmark
+    public Object createFeatureContext(GenerationState state) {
+        return state.createFeatureContext();
+    }
+
+    @Benchmark
+    public Object createGeneratorContext(GenerationState state) {
+        return state.createGeneratorContext();
+    }
+
+    @Benchmark
+    public Object applyFeatures(GenerationState state) {
+        GeneratorContext generatorContext = state.createGeneratorContext();
+        generatorContext.applyFeatures();
+        return generatorContext;
+    }
+
+    @Benchmark
+    public Object generateToMap(GenerationState state) throws Exception {
+        MapOutputHandler outputHandler = new MapOutputHandler();
+        state.projectGenerator.generate(state.applicationType, state.project, outputHandler, state.createGeneratorContext());
+        return outputHandler.getProject();
+    }
+
+    @Benchmark
+    public void generateToZip(GenerationState state, Blackhole blackhole) throws Exception {
+        try (ZipOutputHandler outputHandler = new ZipOutputHandler(OutputStream.nullOutputStream())) {
+            state.projectGenerator.generate(state.applicationType, state.project, outputHandler, state.createGeneratorContext());
+            blackhole.consume(outputHandler);
+        }
+    }
+
+    @Benchmark
+    public void produceDiff(GenerationState state, Blackhole blackhole) throws Exception {
+        GeneratorContext generatorContext = state.createGeneratorContext();
+        state.featureDiffer.produceDiff(state.projectGenerator, generatorContext, ConsoleOutput.NOOP);
+        blackhole.consume(generatorContext);
+    }
+}
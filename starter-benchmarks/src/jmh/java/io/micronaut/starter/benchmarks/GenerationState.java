@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.ContextFactory;
+import io.micronaut.starter.application.OperatingSystem;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.diff.FeatureDiffer;
+import io.micronaut.starter.feature.AvailableFeatures;
+import io.micronaut.starter.feature.FeatureContext;
+import io.micronaut.starter.io.ConsoleOutput;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.util.NameUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The shared state of the generation benchmarks, parameterized over language, build tool, application type and feature set.
+ * Features of a feature set which do not support the application type are skipped.
+ * The defaults cover a representative subset; the full matrix is selected with {@code -Pjmh.fullMatrix}.
+ */
+@State(Scope.Benchmark)
+public class GenerationState {
+
+    private static final String[] NO_FEATURES = new String[0];
+
+    @Param({"JAVA", "KOTLIN"})
+    public Language language;
+
+    @Param({"GRADLE", "MAVEN"})
+    public BuildTool buildTool;
+
+    @Param({"DEFAULT"})
+    public ApplicationType applicationType;
+
+    @Param({"none", "data"})
+    public String featureSet;
+
+    ApplicationContext applicationContext;
+    ContextFactory contextFactory;
+    ProjectGenerator projectGenerator;
+    FeatureDiffer featureDiffer;
+    AvailableFeatures availableFeatures;
+    Project project;
+    Options options;
+    List<String> features;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        contextFactory = applicationContext.getBean(ContextFactory.class);
+        projectGenerator = applicationContext.getBean(ProjectGenerator.class);
+        featureDiffer = applicationContext.getBean(FeatureDiffer.class);
+        availableFeatures = applicationContext.getBean(AvailableFeatures.class, Qualifiers.byName(applicationType.getName()));
+        project = NameUtils.parse("example.micronaut.demo");
+        options = new Options(language, language.getDefaults().getTest(), buildTool, JdkVersion.JDK_17);
+        features = Arrays.stream(featureNames(featureSet))
+                .filter(name -> availableFeatures.findFeature(name, true).isPresent())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    FeatureContext createFeatureContext() {
+        return contextFactory.createFeatureContext(availableFeatures, features, applicationType, options, OperatingSystem.LINUX);
+    }
+
+    GeneratorContext createGeneratorContext() {
+        return contextFactory.createGeneratorContext(project, createFeatureContext(), ConsoleOutput.NOOP);
+    }
+
+    private static String[] featureNames(String featureSet) {
+        return switch (featureSet) {
+            case "data" -> new String[] {"data-jdbc", "postgres", "flyway", "testcontainers", "yaml"};
+            case "cloud" -> new String[] {"kubernetes", "micrometer-prometheus", "tracing-opentelemetry-http", "github-workflow-ci", "security-jwt"};
+            default -> NO_FEATURES;
+        };
+    }
+}
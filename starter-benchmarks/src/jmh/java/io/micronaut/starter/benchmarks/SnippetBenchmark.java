@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.starter.application.ApplicationType;
+import io.micronaut.starter.application.ContextFactory;
+import io.micronaut.starter.application.OperatingSystem;
+import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.build.dependencies.Dependency;
+import io.micronaut.starter.build.gradle.GradleDependency;
+import io.micronaut.starter.build.maven.MavenDependency;
+import io.micronaut.starter.feature.AvailableFeatures;
+import io.micronaut.starter.io.ConsoleOutput;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.util.NameUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering the dependency snippets of a build file through the snippet cache with rendering them every time.
+ * The uncached variants go through a subclass, which the dependencies never cache for.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnippetBenchmark {
+
+    private static final String[] FEATURES = {"data-jdbc", "postgres", "flyway", "testcontainers", "yaml", "security-jwt"};
+
+    private ApplicationContext applicationContext;
+    private GeneratorContext generatorContext;
+    private List<Dependency> dependencies;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        ContextFactory contextFactory = applicationContext.getBean(ContextFactory.class);
+        AvailableFeatures availableFeatures = applicationContext.getBean(AvailableFeatures.class, Qualifiers.byName(ApplicationType.DEFAULT.getName()));
+        Options options = new Options(Language.JAVA, Language.JAVA.getDefaults().getTest(), BuildTool.GRADLE, JdkVersion.JDK_17);
+        generatorContext = contextFactory.createGeneratorContext(NameUtils.parse("example.micronaut.demo"),
+                contextFactory.createFeatureContext(availableFeatures, List.of(FEATURES), ApplicationType.DEFAULT, options, OperatingSystem.LINUX),
+                ConsoleOutput.NOOP);
+        generatorContext.applyFeatures();
+        dependencies = new ArrayList<>(generatorContext.getDependencies());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void cachedGradleSnippets(Blackhole blackhole) {
+        for (Dependency dependency : dependencies) {
+            blackhole.consume(new GradleDependency(dependency, generatorContext, false).toSnippet());
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void cachedGradleSnippetsContended(Blackhole blackhole) {
+        cachedGradleSnippets(blackhole);
+    }
+
+    @Benchmark
+    public void renderedGradleSnippets(Blackhole blackhole) {
+        for (Dependency dependency : dependencies) {
+            blackhole.consume(new GradleDependency(dependency, generatorContext, false) { }.toSnippet());
+        }
+    }
+
+    @Benchmark
+    public void cachedMavenSnippets(Blackhole blackhole) {
+        for (Dependency dependency : dependencies) {
+            blackhole.consume(new MavenDependency(dependency, Language.JAVA).toSnippet(false));
+        }
+    }
+
+    @Benchmark
+    public void renderedMavenSnippets(Blackhole blackhole) {
+        for (Dependency dependency : dependencies) {
+            blackhole.consume(new MavenDependency(dependency, Language.JAVA) { }.toSnippet(false));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.starter.feature.AvailableFeatures;
 import io.micronaut.starter.feature.BaseAvailableFeatures;
 import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.io.FileSystemOutputHandler;
+import io.micronaut.starter.io.FileWriteStrategy;
 import io.micronaut.starter.io.OutputHandler;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.JdkVersion;
@@ -87,7 +88,7 @@ public abstract class BuilderCommand extends BaseCommand implements Callable<Int
             Set<String> selectedFeatures = new HashSet<>(options.getFeatures());
             selectedFeatures.addAll(getFeatures(options.getApplicationType(), terminal, features));
             Project project = getProject(reader);
-            try (OutputHandler outputHandler = new FileSystemOutputHandler(project, false, this)) {
+            try (OutputHandler outputHandler = new FileSystemOutputHandler(project, false, this, FileWriteStrategy.BATCHED)) {
                 projectGenerator.generate(options.getApplicationType(),
                         project,
                         options.getOptions(),
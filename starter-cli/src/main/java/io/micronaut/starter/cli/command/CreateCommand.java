@@ -24,6 +24,7 @@ import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.ProjectGenerator;
 import io.micronaut.starter.feature.AvailableFeatures;
 import io.micronaut.starter.io.FileSystemOutputHandler;
+import io.micronaut.starter.io.FileWriteStrategy;
 import io.micronaut.starter.io.OutputHandler;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.JdkVersion;
@@ -117,7 +118,7 @@ public abstract class CreateCommand extends BaseCommand implements Callable<Inte
             throw new ParameterException(spec.commandLine(), StringUtils.isEmpty(name) ? "Specify an application name or use --inplace to create an application in the current directory" : e.getMessage());
         }
 
-        OutputHandler outputHandler = new FileSystemOutputHandler(project, inplace, this);
+        OutputHandler outputHandler = new FileSystemOutputHandler(project, inplace, this, FileWriteStrategy.BATCHED);
 
         generate(project, outputHandler);
 
@@ -16,10 +16,11 @@
 package io.micronaut.starter.application;
 
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.application.generator.GenerationInstrumentation;
+import io.micronaut.starter.application.generator.GenerationPhase;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.build.dependencies.DefaultCoordinateResolver;
 import io.micronaut.starter.feature.AvailableFeatures;
-import io.micronaut.starter.feature.DefaultFeature;
 import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.feature.FeatureContext;
 import io.micronaut.starter.feature.validation.FeatureValidator;
@@ -29,6 +30,7 @@ import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Language;
 import io.micronaut.starter.options.Options;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.Collections;
 import java.util.IdentityHashMap;
@@ -44,12 +46,23 @@ public class ContextFactory {
 
     private final DefaultCoordinateResolver coordinateResolver;
 
+    private final DefaultFeatureResolver defaultFeatureResolver;
+
     public ContextFactory(FeatureValidator featureValidator,
                           DefaultCoordinateResolver coordinateResolver,
                           ProjectNameValidator projectNameValidator) {
+        this(featureValidator, coordinateResolver, projectNameValidator, new DefaultFeatureResolver());
+    }
+
+    @Inject
+    public ContextFactory(FeatureValidator featureValidator,
+                          DefaultCoordinateResolver coordinateResolver,
+                          ProjectNameValidator projectNameValidator,
+                          DefaultFeatureResolver defaultFeatureResolver) {
         this.featureValidator = featureValidator;
         this.coordinateResolver = coordinateResolver;
         this.projectNameValidator = projectNameValidator;
+        this.defaultFeatureResolver = defaultFeatureResolver;
     }
 
     public FeatureContext createFeatureContext(AvailableFeatures availableFeatures,
@@ -57,6 +70,29 @@ public class ContextFactory {
                                                ApplicationType applicationType,
                                                Options options,
                                                @Nullable OperatingSystem operatingSystem) {
+        return createFeatureContext(availableFeatures, selectedFeatures, applicationType, options, operatingSystem, GenerationInstrumentation.NOOP);
+    }
+
+    /**
+     * Creates the feature context, recording the time spent resolving and validating the features.
+     *
+     * @param availableFeatures The available features
+     * @param selectedFeatures The names of the selected features
+     * @param applicationType The application type
+     * @param options The options
+     * @param operatingSystem The operating system
+     * @param instrumentation The instrumentation
+     * @return The feature context
+     * @since 4.5.1
+     */
+    public FeatureContext createFeatureContext(AvailableFeatures availableFeatures,
+                                               List<String> selectedFeatures,
+                                               ApplicationType applicationType,
+                                               Options options,
+                                               @Nullable OperatingSystem operatingSystem,
+                                               GenerationInstrumentation instrumentation) {
+        final boolean timed = instrumentation.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
         final Set<Feature> features = Collections.newSetFromMap(new IdentityHashMap<>(8));
         for (String name: selectedFeatures) {
             Feature feature = availableFeatures.findFeature(name, true).orElse(null);
@@ -71,28 +107,71 @@ public class ContextFactory {
         Options newOptions = options.withLanguage(language)
                 .withBuildTool(determineBuildTool(language, options.getBuildTool()));
 
-        DefaultFeature.forEach(availableFeatures.getAllFeatures(), applicationType, newOptions, features, features::add);
+        defaultFeatureResolver.addDefaultFeatures(availableFeatures, applicationType, newOptions, features);
+
+        if (timed) {
+            long now = System.nanoTime();
+            instrumentation.phase(GenerationPhase.FEATURE_RESOLUTION, now - start);
+            start = now;
+        }
 
         featureValidator.validatePreProcessing(newOptions, applicationType, features);
 
-        return new FeatureContext(newOptions, applicationType, operatingSystem, features);
+        if (timed) {
+            instrumentation.phase(GenerationPhase.VALIDATION, System.nanoTime() - start);
+        }
+
+        return new FeatureContext(newOptions, applicationType, operatingSystem, features, availableFeatures);
     }
 
     public GeneratorContext createGeneratorContext(Project project,
                                                    FeatureContext featureContext,
                                                    ConsoleOutput consoleOutput) {
+        return createGeneratorContext(project, featureContext, consoleOutput, GenerationInstrumentation.NOOP);
+    }
+
+    /**
+     * Creates the generator context, recording the time spent processing and validating the features. The
+     * instrumentation is set on the returned context.
+     *
+     * @param project The project
+     * @param featureContext The feature context
+     * @param consoleOutput The console output
+     * @param instrumentation The instrumentation
+     * @return The generator context
+     * @since 4.5.1
+     */
+    public GeneratorContext createGeneratorContext(Project project,
+                                                   FeatureContext featureContext,
+                                                   ConsoleOutput consoleOutput,
+                                                   GenerationInstrumentation instrumentation) {
 
         if (project != null) {
             projectNameValidator.validate(project);
         }
 
+        final boolean timed = instrumentation.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+
         featureContext.processSelectedFeatures();
 
         Set<Feature> featureList = featureContext.getFinalFeatures(consoleOutput);
 
+        if (timed) {
+            long now = System.nanoTime();
+            instrumentation.phase(GenerationPhase.FEATURE_PROCESSING, now - start);
+            start = now;
+        }
+
         featureValidator.validatePostProcessing(featureContext.getOptions(), featureContext.getApplicationType(), featureList);
 
-        return new GeneratorContext(project, featureContext.getApplicationType(), featureContext.getOptions(), featureContext.getOperatingSystem(), featureList, coordinateResolver);
+        if (timed) {
+            instrumentation.phase(GenerationPhase.VALIDATION, System.nanoTime() - start);
+        }
+
+        GeneratorContext generatorContext = new GeneratorContext(project, featureContext.getApplicationType(), featureContext.getOptions(), featureContext.getOperatingSystem(), featureContext.resolve(featureList), coordinateResolver);
+        generatorContext.setInstrumentation(instrumentation);
+        return generatorContext;
     }
 
     Language determineLanguage(Language language, Set<Feature> features) {
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.order.OrderUtil;
+import io.micronaut.starter.feature.AvailableFeatures;
+import io.micronaut.starter.feature.BaseAvailableFeatures;
+import io.micronaut.starter.feature.DefaultFeature;
+import io.micronaut.starter.feature.Feature;
+import io.micronaut.starter.feature.FeatureSelection;
+import io.micronaut.starter.feature.build.BuildFeature;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import io.micronaut.starter.options.TestFramework;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Resolves the {@link DefaultFeature default features} to apply to a project. For every set of available features a
+ * resolution plan is built once: the default features sorted in the order they are evaluated, partitioned by the
+ * framework they target. The default features resolved for a given application type, options and selection are
+ * memoized, so repeated configurations do not evaluate every {@link DefaultFeature#shouldApply} again.
+ *
+ * <p>This relies on {@link DefaultFeature#shouldApply} depending only on its arguments.</p>
+ *
+ * @since 4.5.1
+ */
+@Singleton
+public class DefaultFeatureResolver {
+
+    private static final int MAX_RESOLUTIONS = 1024;
+
+    private final Map<AvailableFeatures, ResolutionPlan> plans = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Adds the default features that should apply to the given selection. Equivalent to
+     * {@link DefaultFeature#forEach(java.util.stream.Stream, ApplicationType, Options, Set, Consumer)} with the
+     * features of the given available features.
+     *
+     * @param availableFeatures The available features
+     * @param applicationType The application type
+     * @param options The options
+     * @param features The selected features, default features are added to it as they are resolved
+     */
+    public void addDefaultFeatures(@NonNull AvailableFeatures availableFeatures,
+                                   @NonNull ApplicationType applicationType,
+                                   @NonNull Options options,
+                                   @NonNull Set<Feature> features) {
+        plans.computeIfAbsent(availableFeatures, ResolutionPlan::new)
+                .addDefaultFeatures(availableFeatures, applicationType, options, features);
+    }
+
+    /**
+     * The pre-sorted default features of a set of available features and the default features previously resolved with them.
+     */
+    private static final class ResolutionPlan {
+
+        private final List<DefaultFeature> defaultFeatures;
+        private final Map<String, List<DefaultFeature>> defaultFeaturesByFramework = new LinkedHashMap<>();
+        private final Map<Signature, List<Feature>> resolutions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Signature, List<Feature>> eldest) {
+                return size() > MAX_RESOLUTIONS;
+            }
+        };
+
+        ResolutionPlan(AvailableFeatures availableFeatures) {
+            this.defaultFeatures = availableFeatures.getAllFeatures()
+                    .filter(DefaultFeature.class::isInstance)
+                    .sorted(OrderUtil.COMPARATOR.reversed())
+                    .map(DefaultFeature.class::cast)
+                    .toList();
+        }
+
+        void addDefaultFeatures(AvailableFeatures availableFeatures, ApplicationType applicationType, Options options, Set<Feature> features) {
+            Signature signature = Signature.of(applicationType, options, selection(availableFeatures, features));
+            List<Feature> resolved;
+            synchronized (resolutions) {
+                resolved = resolutions.get(signature);
+            }
+            if (resolved == null) {
+                List<Feature> defaults = new ArrayList<>();
+                for (DefaultFeature feature : candidates(options.getFramework())) {
+                    if (feature.shouldApply(applicationType, options, features)) {
+                        defaults.add(feature);
+                        features.add(feature);
+                    }
+                }
+                synchronized (resolutions) {
+                    resolutions.put(signature, Collections.unmodifiableList(defaults));
+                }
+            } else {
+                features.addAll(resolved);
+            }
+        }
+
+        // the available features are not kept, they are the weak key of the plan
+        private static FeatureSelection selection(AvailableFeatures availableFeatures, Set<Feature> features) {
+            return availableFeatures instanceof BaseAvailableFeatures registry ? registry.toSelection(features) : FeatureSelection.of(features);
+        }
+
+        private List<DefaultFeature> candidates(String framework) {
+            synchronized (defaultFeaturesByFramework) {
+                return defaultFeaturesByFramework.computeIfAbsent(framework, f -> defaultFeatures.stream()
+                        .filter(feature -> feature.getTargetFramework().equals(f) || feature instanceof BuildFeature)
+                        .toList());
+            }
+        }
+    }
+
+    /**
+     * Everything the resolution of default features depends on.
+     */
+    private record Signature(ApplicationType applicationType,
+                             String framework,
+                             Language language,
+                             TestFramework testFramework,
+                             BuildTool buildTool,
+                             JdkVersion javaVersion,
+                             Map<String, Object> additionalOptions,
+                             FeatureSelection selectedFeatures) {
+
+        static Signature of(ApplicationType applicationType, Options options, FeatureSelection selectedFeatures) {
+            return new Signature(applicationType,
+                    options.getFramework(),
+                    options.getLanguage(),
+                    options.getTestFramework(),
+                    options.getBuildTool(),
+                    options.getJavaVersion(),
+                    new TreeMap<>(options.getAdditionalOptions()),
+                    selectedFeatures);
+        }
+    }
+}
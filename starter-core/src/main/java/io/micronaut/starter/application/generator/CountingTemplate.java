@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.template.Template;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes a template writes.
+ *
+ * @since 4.5.1
+ */
+final class CountingTemplate implements Template {
+
+    private final Template template;
+    private long count;
+
+    CountingTemplate(Template template) {
+        this.template = template;
+    }
+
+    /**
+     * @return The number of bytes written so far
+     */
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        template.write(new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                count++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                count += len;
+            }
+        });
+    }
+
+    @Override
+    public String getPath() {
+        return template.getPath();
+    }
+
+    @Override
+    public void setUseModule(boolean useModule) {
+        template.setUseModule(useModule);
+    }
+
+    @Override
+    @NonNull
+    public String getModule() {
+        return template.getModule();
+    }
+
+    @Override
+    public boolean isBinary() {
+        return template.isBinary();
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return template.isExecutable();
+    }
+}
@@ -25,28 +25,63 @@ import io.micronaut.starter.application.Project;
 import io.micronaut.starter.feature.AvailableFeatures;
 import io.micronaut.starter.feature.FeatureContext;
 import io.micronaut.starter.feature.cli;
+import io.micronaut.starter.io.BufferPool;
 import io.micronaut.starter.io.ConsoleOutput;
 import io.micronaut.starter.io.OutputHandler;
 import io.micronaut.starter.options.Options;
+import io.micronaut.starter.template.PrecompressedTemplate;
 import io.micronaut.starter.template.RenderResult;
+import io.micronaut.starter.template.RenderedTemplate;
 import io.micronaut.starter.template.RockerTemplate;
 import io.micronaut.starter.template.Template;
 import io.micronaut.starter.template.TemplateRenderer;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 @Singleton
 public class DefaultProjectGenerator implements ProjectGenerator {
     private final ContextFactory contextFactory;
     private final BeanContext beanContext;
+    private final GeneratorConfiguration generatorConfiguration;
+    private final BufferPool bufferPool;
+    private ExecutorService renderExecutor;
+    private ExecutorService applyExecutor;
+    private volatile List<GenerationReportListener> reportListeners;
 
     public DefaultProjectGenerator(ContextFactory contextFactory, BeanContext beanContext) {
+        this(contextFactory, beanContext, new GeneratorConfiguration());
+    }
+
+    public DefaultProjectGenerator(ContextFactory contextFactory,
+                                   BeanContext beanContext,
+                                   GeneratorConfiguration generatorConfiguration) {
+        this(contextFactory, beanContext, generatorConfiguration, new BufferPool());
+    }
+
+    @Inject
+    public DefaultProjectGenerator(ContextFactory contextFactory,
+                                   BeanContext beanContext,
+                                   GeneratorConfiguration generatorConfiguration,
+                                   BufferPool bufferPool) {
         this.contextFactory = contextFactory;
         this.beanContext = beanContext;
+        this.generatorConfiguration = generatorConfiguration;
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -76,6 +111,71 @@ public class DefaultProjectGenerator implements ProjectGenerator {
             Project project,
             OutputHandler outputHandler,
             GeneratorContext generatorContext) throws Exception {
+        applyFeatures(applicationType, generatorContext);
+
+        GenerationInstrumentation instrumentation = generatorContext.getInstrumentation();
+        boolean timed = instrumentation.isEnabled();
+        long renderStart = timed ? System.nanoTime() : 0L;
+        try (TemplateRenderer templateRenderer = TemplateRenderer.create(project, outputHandler)) {
+            Collection<Template> templates = generatorContext.getTemplates().values();
+            long[] renderNanos = null;
+            if (generatorConfiguration.isParallelRendering() && templates.size() > 1) {
+                renderNanos = timed ? new long[templates.size()] : null;
+                templates = renderInParallel(templateRenderer, templates, renderNanos);
+            }
+            try {
+                int index = 0;
+                for (Template template: templates) {
+                    // the templates rendered in parallel were timed by the render threads, so only their write is timed here
+                    long start = timed ? System.nanoTime() - (renderNanos != null ? renderNanos[index] : 0L) : 0L;
+                    index++;
+                    Template output = bufferPool.isEnabled() ? renderPooled(templateRenderer, template) : template;
+                    try {
+                        RenderResult renderResult = timed ? renderTimed(templateRenderer, output, start, instrumentation) : templateRenderer.render(output);
+                        if (renderResult.getError() != null) {
+                            throw renderResult.getError();
+                        }
+                    } finally {
+                        if (output instanceof RenderedTemplate rendered) {
+                            rendered.release();
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                try {
+                    outputHandler.abort();
+                } catch (IOException abortFailure) {
+                    e.addSuppressed(abortFailure);
+                }
+                throw e;
+            } finally {
+                // the templates rendered in parallel are not all written if one fails
+                for (Template template : templates) {
+                    if (template instanceof RenderedTemplate rendered) {
+                        rendered.release();
+                    }
+                }
+            }
+        }
+        if (timed) {
+            instrumentation.phase(GenerationPhase.RENDERING, System.nanoTime() - renderStart);
+            if (instrumentation instanceof GenerationReport report) {
+                for (GenerationReportListener listener : getReportListeners()) {
+                    listener.onGenerated(report);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ProjectFiles resolveFiles(ApplicationType applicationType,
+                                     Project project,
+                                     GeneratorContext generatorContext) {
+        applyFeatures(applicationType, generatorContext);
+        return ProjectFiles.of(project, generatorContext.getTemplates().values());
+    }
+
+    private void applyFeatures(ApplicationType applicationType, GeneratorContext generatorContext) {
         List<String> features = new ArrayList<>(generatorContext.getFeatures().size());
         features.addAll(generatorContext.getFeatures());
         features.sort(Comparator.comparing(Function.identity()));
@@ -91,15 +191,151 @@ public class DefaultProjectGenerator implements ProjectGenerator {
                                     features,
                                     applicationType)));
         }
-        generatorContext.applyFeatures();
+        generatorContext.applyFeatures(generatorConfiguration.isParallelApply() ? getApplyExecutor() : null);
+    }
 
-        try (TemplateRenderer templateRenderer = TemplateRenderer.create(project, outputHandler)) {
-            for (Template template: generatorContext.getTemplates().values()) {
-                RenderResult renderResult = templateRenderer.render(template);
-                if (renderResult.getError() != null) {
-                    throw renderResult.getError();
+    /**
+     * Renders a template into a pooled buffer, so that it is handed to the output handler in a single write. This
+     * copies the contents once into a reused buffer instead of streaming many small writes through the output.
+     *
+     * @param templateRenderer The renderer the template is written with
+     * @param template The template
+     * @return The rendered template, or the template itself if it is already held in memory or is skipped
+     * @throws IOException If the template cannot be rendered
+     */
+    private Template renderPooled(TemplateRenderer templateRenderer, Template template) throws IOException {
+        if (template instanceof PrecompressedTemplate || template instanceof RenderedTemplate || templateRenderer.isSkipped(template)) {
+            return template;
+        }
+        return RenderedTemplate.render(template, bufferPool);
+    }
+
+    private static RenderResult renderTimed(TemplateRenderer templateRenderer,
+                                            Template template,
+                                            long start,
+                                            GenerationInstrumentation instrumentation) {
+        RenderResult renderResult;
+        long bytes;
+        if (template instanceof PrecompressedTemplate precompressed) {
+            // written as is by the output handlers that support it, so it must not be wrapped
+            renderResult = templateRenderer.render(template);
+            bytes = precompressed.getContents().getSize();
+        } else if (template instanceof RenderedTemplate rendered) {
+            renderResult = templateRenderer.render(template);
+            bytes = rendered.getLength();
+        } else {
+            CountingTemplate counting = new CountingTemplate(template);
+            renderResult = templateRenderer.render(counting);
+            bytes = counting.getCount();
+        }
+        instrumentation.templateRendered(template.getPath(), System.nanoTime() - start, bytes);
+        return renderResult;
+    }
+
+    private List<GenerationReportListener> getReportListeners() {
+        List<GenerationReportListener> listeners = reportListeners;
+        if (listeners == null) {
+            listeners = List.copyOf(beanContext.getBeansOfType(GenerationReportListener.class));
+            reportListeners = listeners;
+        }
+        return listeners;
+    }
+
+    /**
+     * Renders the templates concurrently into memory. The rendered templates are returned in the original order
+     * so that they are written to the output handler exactly as if they were rendered sequentially.
+     *
+     * @param templateRenderer The renderer the templates are written with, templates it skips are not rendered
+     * @param templates The templates
+     * @param renderNanos Receives the time each template took to render, by position, or null if it is not timed
+     * @return The rendered templates
+     * @throws Exception If a template cannot be rendered
+     */
+    private List<Template> renderInParallel(TemplateRenderer templateRenderer,
+                                            Collection<Template> templates,
+                                            @Nullable long[] renderNanos) throws Exception {
+        ExecutorService executor = getRenderExecutor();
+        List<Future<? extends Template>> futures = new ArrayList<>(templates.size());
+        int index = 0;
+        for (Template template : templates) {
+            if (template instanceof PrecompressedTemplate || templateRenderer.isSkipped(template)) {
+                // already held in memory or not written at all
+                futures.add(CompletableFuture.completedFuture(template));
+            } else {
+                int position = index;
+                futures.add(executor.submit(() -> {
+                    long start = renderNanos != null ? System.nanoTime() : 0L;
+                    RenderedTemplate rendered = bufferPool.isEnabled() ? RenderedTemplate.render(template, bufferPool) : RenderedTemplate.render(template);
+                    if (renderNanos != null) {
+                        // read once the future completes
+                        renderNanos[position] = System.nanoTime() - start;
+                    }
+                    return rendered;
+                }));
+            }
+            index++;
+        }
+        List<Template> rendered = new ArrayList<>(futures.size());
+        try {
+            for (Future<? extends Template> future : futures) {
+                rendered.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            // buffers of templates which completed after the failure are left to the garbage collector
+            for (Template template : rendered) {
+                if (template instanceof RenderedTemplate renderedTemplate) {
+                    renderedTemplate.release();
                 }
             }
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return rendered;
+    }
+
+    private synchronized ExecutorService getRenderExecutor() {
+        if (renderExecutor == null) {
+            renderExecutor = Executors.newFixedThreadPool(generatorConfiguration.getRenderParallelism(), threadFactory("starter-render-"));
+        }
+        return renderExecutor;
+    }
+
+    private synchronized ExecutorService getApplyExecutor() {
+        if (applyExecutor == null) {
+            applyExecutor = Executors.newFixedThreadPool(generatorConfiguration.getApplyParallelism(), threadFactory("starter-apply-"));
+        }
+        return applyExecutor;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        try {
+            // virtual threads are only available on Java 21+
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdownExecutors() {
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+        if (applyExecutor != null) {
+            applyExecutor.shutdownNow();
+            applyExecutor = null;
         }
     }
 
@@ -112,7 +348,8 @@ public class DefaultProjectGenerator implements ProjectGenerator {
             List<String> selectedFeatures,
             ConsoleOutput consoleOutput) {
         AvailableFeatures availableFeatures = beanContext.getBean(AvailableFeatures.class, Qualifiers.byName(applicationType.getName()));
-        FeatureContext featureContext = contextFactory.createFeatureContext(availableFeatures, selectedFeatures, applicationType, options, operatingSystem);
-        return contextFactory.createGeneratorContext(project, featureContext, consoleOutput);
+        GenerationInstrumentation instrumentation = getReportListeners().isEmpty() ? GenerationInstrumentation.NOOP : new GenerationReport(applicationType);
+        FeatureContext featureContext = contextFactory.createFeatureContext(availableFeatures, selectedFeatures, applicationType, options, operatingSystem, instrumentation);
+        return contextFactory.createGeneratorContext(project, featureContext, consoleOutput, instrumentation);
     }
 }
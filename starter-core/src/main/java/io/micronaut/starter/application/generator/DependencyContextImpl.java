@@ -21,13 +21,26 @@ import io.micronaut.starter.build.dependencies.CoordinateResolver;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.DependencyContext;
 import io.micronaut.starter.build.dependencies.LookupFailedException;
+import io.micronaut.starter.build.dependencies.Scope;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.Language;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class DependencyContextImpl implements DependencyContext {
     private final CoordinateResolver coordinateResolver;
     private final Set<Dependency> dependencies = new HashSet<>();
+    private final Map<String, List<Dependency>> dependenciesByModule = new HashMap<>();
+    private final Map<String, Long> dependencyCountByGroup = new HashMap<>();
+    private final Map<BuildTool, Map<Language, List<Dependency>>> withoutDuplicates = new EnumMap<>(BuildTool.class);
 
     public DependencyContextImpl(CoordinateResolver coordinateResolver) {
         this.coordinateResolver = coordinateResolver;
@@ -38,9 +51,9 @@ public class DependencyContextImpl implements DependencyContext {
         if (dependency.requiresLookup()) {
             Coordinate coordinate = coordinateResolver.resolve(dependency.getArtifactId())
                     .orElseThrow(() -> new LookupFailedException(dependency.getArtifactId()));
-            dependencies.add(dependency.resolved(coordinate));
+            index(dependency.resolved(coordinate));
         } else {
-            dependencies.add(dependency);
+            index(dependency);
         }
     }
 
@@ -50,9 +63,72 @@ public class DependencyContextImpl implements DependencyContext {
         return dependencies;
     }
 
+    /**
+     * Removes the duplicates of the given dependencies. The result for the dependencies of this context is computed once
+     * per language and build tool, until another dependency is added.
+     *
+     * @param dependencies The dependencies
+     * @param language The language
+     * @param buildTool The build tool
+     * @return The dependencies without duplicates
+     */
+    @NonNull
+    @Override
+    public List<Dependency> removeDuplicates(Collection<Dependency> dependencies, Language language, BuildTool buildTool) {
+        if (dependencies != this.dependencies || language == null || buildTool == null) {
+            return DependencyContext.super.removeDuplicates(dependencies, language, buildTool);
+        }
+        return withoutDuplicates.computeIfAbsent(buildTool, k -> new EnumMap<>(Language.class))
+                .computeIfAbsent(language, k -> DependencyContext.super.removeDuplicates(dependencies, language, buildTool));
+    }
+
+    /**
+     * @param groupId The group id
+     * @param artifactId The artifact id
+     * @return Whether a dependency with the given group and artifact id has been added, in any scope
+     */
+    public boolean hasDependency(@NonNull String groupId, @NonNull String artifactId) {
+        return dependenciesByModule.containsKey(module(groupId, artifactId));
+    }
+
+    /**
+     * @param groupId The group id
+     * @param artifactId The artifact id
+     * @param scope The scope
+     * @return Whether a dependency with the given group and artifact id has been added in the given scope
+     */
+    public boolean hasDependencyInScope(@NonNull String groupId, @NonNull String artifactId, @NonNull Scope scope) {
+        for (Dependency dependency : dependenciesByModule.getOrDefault(module(groupId, artifactId), Collections.emptyList())) {
+            if (dependency.getScope() == scope) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param groupId The group id
+     * @return The number of dependencies added with the given group id
+     */
+    public long countDependencies(@NonNull String groupId) {
+        return dependencyCountByGroup.getOrDefault(groupId, 0L);
+    }
+
     public Coordinate resolveCoordinate(String artifactId) {
         return coordinateResolver.resolve(artifactId)
                 .orElseThrow(() -> new LookupFailedException(artifactId));
     }
 
+    private void index(Dependency dependency) {
+        if (dependencies.add(dependency)) {
+            dependenciesByModule.computeIfAbsent(module(dependency.getGroupId(), dependency.getArtifactId()), k -> new ArrayList<>(2))
+                    .add(dependency);
+            dependencyCountByGroup.merge(dependency.getGroupId(), 1L, Long::sum);
+            withoutDuplicates.clear();
+        }
+    }
+
+    private static String module(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
 }
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.starter.build.BuildProperties;
+import io.micronaut.starter.build.Property;
+import io.micronaut.starter.feature.Feature;
+import io.micronaut.starter.feature.config.ApplicationConfiguration;
+import io.micronaut.starter.feature.config.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the writes of a feature applied concurrently with other features. The writes are replayed against the
+ * generator context once all the features are applied, in the order the features would have been applied
+ * sequentially, so that the context ends up in the same state. Until then, a feature reads the configuration and
+ * build properties as they were before the features were applied, with its own writes on top.
+ *
+ * <p>The facets the feature reads are recorded too. A feature which reads a facet written before it in the same
+ * order, reads the templates, dependencies or build plugins after writing them, or does anything which cannot be
+ * recorded is not {@link #isReplayable(Set) replayable}, and is applied again sequentially instead.</p>
+ *
+ * @since 4.5.1
+ */
+final class FeatureJournal {
+
+    private final Feature feature;
+    private final Set<GeneratorFacet> facets;
+    private final List<Runnable> writes = new ArrayList<>();
+    private final Set<GeneratorFacet> written = EnumSet.noneOf(GeneratorFacet.class);
+    private final Set<GeneratorFacet> read = EnumSet.noneOf(GeneratorFacet.class);
+    private boolean sequential;
+    private Throwable failure;
+    private ApplicationConfiguration configuration;
+    private BuildProperties buildProperties;
+    private long nanos;
+
+    FeatureJournal(Feature feature) {
+        this.feature = feature;
+        this.facets = feature.getWriteFacets();
+    }
+
+    /**
+     * @return The feature whose writes are recorded
+     */
+    Feature getFeature() {
+        return feature;
+    }
+
+    /**
+     * @return The time it took to apply the feature, in nanoseconds
+     */
+    long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @param nanos The time it took to apply the feature, in nanoseconds
+     */
+    void setNanos(long nanos) {
+        this.nanos = nanos;
+    }
+
+    /**
+     * @param failure The failure of the feature, thrown again when it is replayed
+     */
+    void setFailure(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Records a write.
+     *
+     * @param facet The facet written to
+     * @param write The write
+     * @throws IllegalStateException If the feature did not declare it writes to the facet
+     */
+    void record(GeneratorFacet facet, Runnable write) {
+        if (!facets.contains(facet)) {
+            throw new IllegalStateException("Feature [" + feature.getName() + "] writes to " + facet + " but only declares " + facets);
+        }
+        written.add(facet);
+        writes.add(write);
+    }
+
+    /**
+     * Records a read. The configuration and build properties read the writes of the feature itself, the other facets
+     * do not, so reading them after writing them requires the feature to be applied sequentially.
+     *
+     * @param facet The facet read
+     */
+    void read(GeneratorFacet facet) {
+        if (facet != GeneratorFacet.CONFIGURATION && facet != GeneratorFacet.BUILD_PROPERTIES && written.contains(facet)) {
+            sequential = true;
+        }
+        read.add(facet);
+    }
+
+    /**
+     * Stops applying the feature concurrently because it does something that cannot be recorded.
+     *
+     * @throws SequentialApplicationRequired Always
+     */
+    void requireSequential() {
+        sequential = true;
+        throw new SequentialApplicationRequired();
+    }
+
+    /**
+     * @return The facets the feature wrote to
+     */
+    Set<GeneratorFacet> getWrittenFacets() {
+        return written;
+    }
+
+    /**
+     * @param writtenBefore The facets written by the features applied before this one in the same order
+     * @return Whether replaying the writes leaves the context as applying the feature sequentially would
+     */
+    boolean isReplayable(Set<GeneratorFacet> writtenBefore) {
+        return !sequential && Collections.disjoint(read, writtenBefore);
+    }
+
+    /**
+     * @param target The configuration of the context
+     * @return A configuration recording its writes, and reading from the configuration of the context
+     */
+    ApplicationConfiguration getConfiguration(ApplicationConfiguration target) {
+        if (configuration == null) {
+            configuration = new JournaledConfiguration(target);
+        }
+        return configuration;
+    }
+
+    /**
+     * @param target The build properties of the context
+     * @return Build properties recording their writes, and reading from the build properties of the context
+     */
+    BuildProperties getBuildProperties(BuildProperties target) {
+        if (buildProperties == null) {
+            buildProperties = new JournaledBuildProperties(target);
+        }
+        return buildProperties;
+    }
+
+    /**
+     * Replays the recorded writes, or throws the failure of the feature.
+     */
+    void replay() {
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        for (Runnable write : writes) {
+            write.run();
+        }
+    }
+
+    /**
+     * @param value A configuration value
+     * @return A mutable deep copy of the value, nested maps being copied the way {@link Configuration#addNested} creates them
+     */
+    private static Object copy(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((k, v) -> copy.put(k, copy(v)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(copy(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * @param value A configuration value
+     * @return A read-only deep copy of the value
+     */
+    private static Object readOnly(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 2);
+            map.forEach((k, v) -> copy.put(k, readOnly(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(readOnly(item));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    /**
+     * Records the writes to the application configuration. The map itself holds a working copy of the configuration
+     * of the context, taken when the feature first asks for it, so that the feature reads its own writes as it would
+     * sequentially. Every mutator is applied to the working copy and recorded to be replayed against the context.
+     * Values are read through deep read-only copies, and the key, value and entry views are read-only, so that
+     * nothing can be changed without being recorded. Methods which cannot be recorded throw.
+     */
+    private final class JournaledConfiguration extends ApplicationConfiguration {
+
+        private final ApplicationConfiguration target;
+        // set while a write is applied to the working copy, whose implementation calls back into the overridden methods
+        private boolean applying;
+
+        private JournaledConfiguration(ApplicationConfiguration target) {
+            this.target = target;
+            target.forEach((key, value) -> super.put(key, copy(value)));
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return write(() -> super.put(key, value), () -> target.put(key, value));
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ?> values) {
+            Map<String, Object> copy = new LinkedHashMap<>(values);
+            write(() -> {
+                super.putAll(copy);
+                return null;
+            }, () -> target.putAll(copy));
+        }
+
+        @Override
+        public Object putIfAbsent(String key, Object value) {
+            return conditionalWrite(() -> super.putIfAbsent(key, value), () -> target.putIfAbsent(key, value));
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return conditionalWrite(() -> super.remove(key), () -> target.remove(key));
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            return (Boolean) conditionalWrite(() -> super.remove(key, value), () -> target.remove(key, value));
+        }
+
+        @Override
+        public Object replace(String key, Object value) {
+            return conditionalWrite(() -> super.replace(key, value), () -> target.replace(key, value));
+        }
+
+        @Override
+        public boolean replace(String key, Object oldValue, Object newValue) {
+            return (Boolean) conditionalWrite(() -> super.replace(key, oldValue, newValue), () -> target.replace(key, oldValue, newValue));
+        }
+
+        @Override
+        public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+            return conditionalWrite(() -> super.computeIfAbsent(key, mappingFunction), () -> target.computeIfAbsent(key, mappingFunction));
+        }
+
+        @Override
+        public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            return conditionalWrite(() -> super.computeIfPresent(key, remappingFunction), () -> target.computeIfPresent(key, remappingFunction));
+        }
+
+        @Override
+        public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+            return conditionalWrite(() -> super.compute(key, remappingFunction), () -> target.compute(key, remappingFunction));
+        }
+
+        @Override
+        public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            return conditionalWrite(() -> super.merge(key, value, remappingFunction), () -> target.merge(key, value, remappingFunction));
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+            conditionalWrite(() -> {
+                super.replaceAll(function);
+                return null;
+            }, () -> target.replaceAll(function));
+        }
+
+        @Override
+        public void clear() {
+            write(() -> {
+                super.clear();
+                return null;
+            }, target::clear);
+        }
+
+        @Override
+        public Configuration addNested(String path, Object value) {
+            write(() -> super.addNested(path, value), () -> target.addNested(path, value));
+            return this;
+        }
+
+        @Override
+        public void addCommaSeparatedValue(String key, String value) {
+            write(() -> {
+                super.addCommaSeparatedValue(key, value);
+                return null;
+            }, () -> target.addCommaSeparatedValue(key, value));
+        }
+
+        @Override
+        public void addListItem(String key, String value) {
+            write(() -> {
+                super.addListItem(key, value);
+                return null;
+            }, () -> target.addListItem(key, value));
+        }
+
+        @Override
+        public Object get(Object key) {
+            return readValue(super.get(key));
+        }
+
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+            return readValue(super.getOrDefault(key, defaultValue));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            markRead();
+            return super.containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            markRead();
+            return super.containsValue(value);
+        }
+
+        @Override
+        public int size() {
+            markRead();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            markRead();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            if (applying) {
+                super.forEach(action);
+            } else {
+                read(GeneratorFacet.CONFIGURATION);
+                super.forEach((key, value) -> action.accept(key, readOnly(value)));
+            }
+        }
+
+        @Override
+        public Set<String> keySet() {
+            if (applying) {
+                return super.keySet();
+            }
+            read(GeneratorFacet.CONFIGURATION);
+            return Collections.unmodifiableSet(super.keySet());
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return applying ? super.values() : readOnlySnapshot().values();
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return applying ? super.entrySet() : readOnlySnapshot().entrySet();
+        }
+
+        @Override
+        public Object clone() {
+            requireSequential();
+            return null;
+        }
+
+        @Override
+        public String getPath() {
+            return target.getPath();
+        }
+
+        @Override
+        public String getFileName() {
+            return target.getFileName();
+        }
+
+        @Override
+        public String getFullPath(String extension) {
+            return target.getFullPath(extension);
+        }
+
+        @Override
+        public String getTemplateKey() {
+            return target.getTemplateKey();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || target.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return target.hashCode();
+        }
+
+        /**
+         * Records a write and applies it to the working copy, unless it is made by the working copy itself while
+         * another write is applied.
+         *
+         * @param local The write to the working copy
+         * @param replay The write to the configuration of the context
+         * @return The result of the write to the working copy, read-only
+         */
+        private Object write(Supplier<Object> local, Runnable replay) {
+            if (applying) {
+                return local.get();
+            }
+            record(GeneratorFacet.CONFIGURATION, replay);
+            applying = true;
+            try {
+                return readOnly(local.get());
+            } finally {
+                applying = false;
+            }
+        }
+
+        /**
+         * Records a write whose result depends on the current configuration, so that the feature also reads it.
+         *
+         * @param local The write to the working copy
+         * @param replay The write to the configuration of the context
+         * @return The result of the write to the working copy, read-only
+         */
+        private Object conditionalWrite(Supplier<Object> local, Runnable replay) {
+            markRead();
+            return write(local, replay);
+        }
+
+        private void markRead() {
+            if (!applying) {
+                read(GeneratorFacet.CONFIGURATION);
+            }
+        }
+
+        private Object readValue(Object value) {
+            if (applying) {
+                return value;
+            }
+            read(GeneratorFacet.CONFIGURATION);
+            return readOnly(value);
+        }
+
+        private Map<String, Object> readOnlySnapshot() {
+            read(GeneratorFacet.CONFIGURATION);
+            Map<String, Object> snapshot = new LinkedHashMap<>(super.size() * 2);
+            super.forEach((key, value) -> snapshot.put(key, readOnly(value)));
+            return Collections.unmodifiableMap(snapshot);
+        }
+    }
+
+    /**
+     * Records the writes to the build properties. The properties themselves hold a working copy of the build
+     * properties of the context, so that the feature reads its own writes as it would sequentially.
+     */
+    private final class JournaledBuildProperties extends BuildProperties {
+
+        private final BuildProperties target;
+
+        private JournaledBuildProperties(BuildProperties target) {
+            this.target = target;
+            for (Property property : target.getProperties()) {
+                if (property.isComment()) {
+                    super.addComment(property.getComment());
+                } else {
+                    super.put(property.getKey(), property.getValue());
+                }
+            }
+        }
+
+        @Override
+        public void put(String key, String value) {
+            record(GeneratorFacet.BUILD_PROPERTIES, () -> target.put(key, value));
+            super.put(key, value);
+        }
+
+        @Override
+        public void remove(String key) {
+            record(GeneratorFacet.BUILD_PROPERTIES, () -> target.remove(key));
+            super.remove(key);
+        }
+
+        @Override
+        public void addComment(String comment) {
+            record(GeneratorFacet.BUILD_PROPERTIES, () -> target.addComment(comment));
+            super.addComment(comment);
+        }
+
+        @Override
+        public List<Property> getProperties() {
+            read(GeneratorFacet.BUILD_PROPERTIES);
+            return super.getProperties();
+        }
+    }
+
+    /**
+     * Stops applying a feature concurrently, it is applied again sequentially.
+     */
+    static final class SequentialApplicationRequired extends RuntimeException {
+
+        private SequentialApplicationRequired() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Records the time spent in the phases of a single project generation, in every feature's
+ * {@link io.micronaut.starter.feature.Feature#apply(GeneratorContext) apply} and in the rendering of every template.
+ *
+ * <p>Callers check {@link #isEnabled()} before measuring anything, so {@link #NOOP} costs nothing.</p>
+ *
+ * @since 4.5.1
+ */
+public interface GenerationInstrumentation {
+
+    /**
+     * Instrumentation that records nothing.
+     */
+    GenerationInstrumentation NOOP = new GenerationInstrumentation() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void phase(GenerationPhase phase, long nanos) {
+        }
+
+        @Override
+        public void featureApplied(String feature, long nanos) {
+        }
+
+        @Override
+        public void templateRendered(String path, long nanos, long bytes) {
+        }
+    };
+
+    /**
+     * @return Whether anything is recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records time spent in a phase. A phase may be recorded more than once, the durations add up.
+     *
+     * @param phase The phase
+     * @param nanos The duration in nanoseconds
+     */
+    void phase(@NonNull GenerationPhase phase, long nanos);
+
+    /**
+     * Records the time a feature took to apply.
+     *
+     * @param feature The feature name
+     * @param nanos The duration in nanoseconds
+     */
+    void featureApplied(@NonNull String feature, long nanos);
+
+    /**
+     * Records the time a template took to render and write to the output.
+     *
+     * @param path The template path
+     * @param nanos The duration in nanoseconds
+     * @param bytes The number of bytes rendered
+     */
+    void templateRendered(@NonNull String path, long nanos, long bytes);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+/**
+ * The phases of a project generation recorded by {@link GenerationInstrumentation}.
+ *
+ * @since 4.5.1
+ */
+public enum GenerationPhase {
+
+    /**
+     * Looking up the selected features and resolving the language, build tool and default features.
+     */
+    FEATURE_RESOLUTION,
+
+    /**
+     * Validating the features before and after they are processed.
+     */
+    VALIDATION,
+
+    /**
+     * Processing the selected features, which adds the features they depend on.
+     */
+    FEATURE_PROCESSING,
+
+    /**
+     * Applying the features to the generator context.
+     */
+    APPLY_FEATURES,
+
+    /**
+     * Rendering the templates and writing them to the output handler, including any compression.
+     */
+    RENDERING
+}
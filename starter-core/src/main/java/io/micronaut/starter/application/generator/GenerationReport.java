@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.application.ApplicationType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The timings of a single project generation. Set one on the {@link GeneratorContext} before generating to inspect
+ * where the time went, or implement a {@link GenerationReportListener} to receive the report of every generation.
+ *
+ * @since 4.5.1
+ */
+public class GenerationReport implements GenerationInstrumentation {
+
+    private final ApplicationType applicationType;
+    private final Map<GenerationPhase, Long> phases = new EnumMap<>(GenerationPhase.class);
+    private final Map<String, Long> features = new LinkedHashMap<>();
+    private final List<TemplateTiming> templates = new ArrayList<>();
+
+    /**
+     * @param applicationType The type of the generated application
+     */
+    public GenerationReport(@NonNull ApplicationType applicationType) {
+        this.applicationType = applicationType;
+    }
+
+    @Override
+    public synchronized void phase(@NonNull GenerationPhase phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    @Override
+    public synchronized void featureApplied(@NonNull String feature, long nanos) {
+        features.merge(feature, nanos, Long::sum);
+    }
+
+    @Override
+    public synchronized void templateRendered(@NonNull String path, long nanos, long bytes) {
+        templates.add(new TemplateTiming(path, nanos, bytes));
+    }
+
+    /**
+     * @return The type of the generated application
+     */
+    @NonNull
+    public ApplicationType getApplicationType() {
+        return applicationType;
+    }
+
+    /**
+     * @return The nanoseconds spent in each recorded phase
+     */
+    @NonNull
+    public synchronized Map<GenerationPhase, Long> getPhases() {
+        return Collections.unmodifiableMap(new EnumMap<>(phases));
+    }
+
+    /**
+     * @return The nanoseconds each feature took to apply, in the order the features were applied
+     */
+    @NonNull
+    public synchronized Map<String, Long> getFeatures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(features));
+    }
+
+    /**
+     * @return The rendered templates, in the order they were written
+     */
+    @NonNull
+    public synchronized List<TemplateTiming> getTemplates() {
+        return List.copyOf(templates);
+    }
+
+    /**
+     * @return The total number of nanoseconds recorded over every phase
+     */
+    public synchronized long getTotalNanos() {
+        long total = 0;
+        for (long nanos : phases.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    /**
+     * @return The total number of bytes rendered
+     */
+    public synchronized long getTotalBytes() {
+        long total = 0;
+        for (TemplateTiming template : templates) {
+            total += template.bytes();
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "GenerationReport{" +
+                "applicationType=" + applicationType +
+                ", phases=" + phases +
+                ", features=" + features.size() +
+                ", templates=" + templates.size() +
+                ", bytes=" + getTotalBytes() +
+                '}';
+    }
+
+    /**
+     * The rendering of a template.
+     *
+     * @param path The template path
+     * @param nanos The time taken to render and write the template, in nanoseconds
+     * @param bytes The number of bytes rendered
+     */
+    public record TemplateTiming(@NonNull String path, long nanos, long bytes) {
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Configures how projects are generated.
+ *
+ * @since 4.5.1
+ */
+@ConfigurationProperties(GeneratorConfiguration.PREFIX)
+public class GeneratorConfiguration {
+    public static final String PREFIX = "micronaut.starter.generator";
+
+    private int renderParallelism;
+    private int applyParallelism;
+
+    /**
+     * @return The number of templates rendered concurrently. Values lower than 2 render the templates sequentially, which is the default.
+     */
+    public int getRenderParallelism() {
+        return renderParallelism;
+    }
+
+    /**
+     * Templates rendered concurrently are still written to the output in order, so the output is identical to a sequential rendering.
+     *
+     * @param renderParallelism The number of templates rendered concurrently
+     */
+    public void setRenderParallelism(int renderParallelism) {
+        this.renderParallelism = renderParallelism;
+    }
+
+    /**
+     * @return Whether templates are rendered concurrently
+     */
+    public boolean isParallelRendering() {
+        return renderParallelism > 1;
+    }
+
+    /**
+     * @return The number of features applied concurrently. Values lower than 2 apply the features sequentially, which is the default.
+     */
+    public int getApplyParallelism() {
+        return applyParallelism;
+    }
+
+    /**
+     * Only the features declaring the parts of the generator context they write to are applied concurrently, and their writes are
+     * replayed in order, so the project is identical to a sequential application.
+     *
+     * @param applyParallelism The number of features applied concurrently
+     */
+    public void setApplyParallelism(int applyParallelism) {
+        this.applyParallelism = applyParallelism;
+    }
+
+    /**
+     * @return Whether features are applied concurrently
+     */
+    public boolean isParallelApply() {
+        return applyParallelism > 1;
+    }
+}
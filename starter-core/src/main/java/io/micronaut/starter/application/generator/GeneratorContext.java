@@ -26,6 +26,7 @@ import io.micronaut.starter.build.BuildProperties;
 import io.micronaut.starter.build.dependencies.*;
 import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.feature.Features;
+import io.micronaut.starter.feature.ResolvedFeatures;
 import io.micronaut.starter.feature.build.maven.Profile;
 import io.micronaut.starter.feature.config.ApplicationConfiguration;
 import io.micronaut.starter.feature.config.BootstrapConfiguration;
@@ -46,13 +47,16 @@ import io.micronaut.starter.util.VersionInfo;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -68,20 +72,25 @@ public class GeneratorContext implements DependencyContext {
 
     private final BuildProperties buildProperties = new BuildProperties();
     private final ApplicationConfiguration configuration = new ApplicationConfiguration();
-    private final Map<String, ApplicationConfiguration> applicationEnvironmentConfiguration = new LinkedHashMap<>();
-    private final Map<String, BootstrapConfiguration> bootstrapEnvironmentConfiguration = new LinkedHashMap<>();
+    // allocated on first use, most projects never have environment specific or additional configuration, or profiles
+    private Map<String, ApplicationConfiguration> applicationEnvironmentConfiguration;
+    private Map<String, BootstrapConfiguration> bootstrapEnvironmentConfiguration;
     private final BootstrapConfiguration bootstrapConfiguration = new BootstrapConfiguration();
-    private final Set<Configuration> otherConfiguration = new HashSet<>();
+    private Set<Configuration> otherConfiguration;
 
-    private final Map<String, Template> templates = new LinkedHashMap<>();
+    private final Map<String, Template> templates = new LinkedHashMap<>(64);
     private final List<Writable> helpTemplates = new ArrayList<>(8);
     private final ApplicationType command;
     private final Features features;
     private final Options options;
     private final CoordinateResolver coordinateResolver;
-    private final DependencyContext dependencyContext;
-    private final Set<Profile> profiles = new HashSet<>();
+    private final DependencyContextImpl dependencyContext;
+    private Set<Profile> profiles;
     private final Set<BuildPlugin> buildPlugins = new HashSet<>();
+    private GenerationInstrumentation instrumentation = GenerationInstrumentation.NOOP;
+    private final ThreadLocal<FeatureJournal> journals = new ThreadLocal<>();
+    // set while features are applied concurrently, so that the sequential path never looks up a journal
+    private volatile boolean journaling;
 
     public GeneratorContext(Project project,
                             ApplicationType type,
@@ -89,6 +98,24 @@ public class GeneratorContext implements DependencyContext {
                             @Nullable OperatingSystem operatingSystem,
                             Set<Feature> features,
                             CoordinateResolver coordinateResolver) {
+        this(project, type, options, operatingSystem, ResolvedFeatures.of(features), coordinateResolver);
+    }
+
+    /**
+     * @param project The project
+     * @param type The application type
+     * @param options The options
+     * @param operatingSystem The operating system
+     * @param features The resolved features, possibly shared with other generations
+     * @param coordinateResolver The coordinate resolver
+     * @since 4.5.1
+     */
+    public GeneratorContext(Project project,
+                            ApplicationType type,
+                            Options options,
+                            @Nullable OperatingSystem operatingSystem,
+                            ResolvedFeatures features,
+                            CoordinateResolver coordinateResolver) {
         this.command = type;
         this.project = project;
         this.operatingSystem = operatingSystem;
@@ -113,7 +140,12 @@ public class GeneratorContext implements DependencyContext {
      */
     public void addTemplate(String name, Template template) {
         template.setUseModule(features.hasMultiProjectFeature());
-        templates.put(name, template);
+        FeatureJournal journal = journal();
+        if (journal == null) {
+            templates.put(name, template);
+        } else {
+            journal.record(GeneratorFacet.TEMPLATES, () -> templates.put(name, template));
+        }
     }
 
     /**
@@ -121,7 +153,12 @@ public class GeneratorContext implements DependencyContext {
      * @param name The name of the template
      */
     public void removeTemplate(String name) {
-        templates.remove(name);
+        FeatureJournal journal = journal();
+        if (journal == null) {
+            templates.remove(name);
+        } else {
+            journal.record(GeneratorFacet.TEMPLATES, () -> templates.remove(name));
+        }
     }
 
     /**
@@ -130,7 +167,12 @@ public class GeneratorContext implements DependencyContext {
      * @param writable The template
      */
     public void addHelpTemplate(Writable writable) {
-        helpTemplates.add(writable);
+        FeatureJournal journal = journal();
+        if (journal == null) {
+            helpTemplates.add(writable);
+        } else {
+            journal.record(GeneratorFacet.TEMPLATES, () -> helpTemplates.add(writable));
+        }
     }
 
     /**
@@ -146,14 +188,16 @@ public class GeneratorContext implements DependencyContext {
      * @return The build properties
      */
     @NonNull public BuildProperties getBuildProperties() {
-        return buildProperties;
+        FeatureJournal journal = journal();
+        return journal == null ? buildProperties : journal.getBuildProperties(buildProperties);
     }
 
     /**
      * @return The configuration
      */
     @NonNull public ApplicationConfiguration getConfiguration() {
-        return configuration;
+        FeatureJournal journal = journal();
+        return journal == null ? configuration : journal.getConfiguration(configuration);
     }
 
     /**
@@ -161,11 +205,13 @@ public class GeneratorContext implements DependencyContext {
      * @return The configuration
      */
     @Nullable public ApplicationConfiguration getConfiguration(String env) {
-        return applicationEnvironmentConfiguration.get(env);
+        requireSequential();
+        return applicationEnvironmentConfiguration == null ? null : applicationEnvironmentConfiguration.get(env);
     }
 
     public boolean hasConfigurationEnvironment(@NonNull String env) {
-        return applicationEnvironmentConfiguration.containsKey(env);
+        requireSequential();
+        return applicationEnvironmentConfiguration != null && applicationEnvironmentConfiguration.containsKey(env);
     }
 
     /**
@@ -175,6 +221,10 @@ public class GeneratorContext implements DependencyContext {
      * @return Application Configuration
      */
     @NonNull public ApplicationConfiguration getConfiguration(String env, ApplicationConfiguration defaultConfig) {
+        requireSequential();
+        if (applicationEnvironmentConfiguration == null) {
+            applicationEnvironmentConfiguration = new LinkedHashMap<>();
+        }
         return applicationEnvironmentConfiguration.computeIfAbsent(env, key -> defaultConfig);
     }
 
@@ -183,10 +233,15 @@ public class GeneratorContext implements DependencyContext {
      * @return The configuration
      */
     @Nullable public BootstrapConfiguration getBootstrapConfiguration(String env) {
-        return bootstrapEnvironmentConfiguration.get(env);
+        requireSequential();
+        return bootstrapEnvironmentConfiguration == null ? null : bootstrapEnvironmentConfiguration.get(env);
     }
 
     @NonNull public BootstrapConfiguration getBootstrapConfiguration(String env, BootstrapConfiguration defaultConfig) {
+        requireSequential();
+        if (bootstrapEnvironmentConfiguration == null) {
+            bootstrapEnvironmentConfiguration = new LinkedHashMap<>();
+        }
         return bootstrapEnvironmentConfiguration.computeIfAbsent(env, key -> defaultConfig);
     }
 
@@ -194,20 +249,32 @@ public class GeneratorContext implements DependencyContext {
      * @return The bootstrap config
      */
     @NonNull public BootstrapConfiguration getBootstrapConfiguration() {
+        requireSequential();
         return bootstrapConfiguration;
     }
 
     public void addConfiguration(@NonNull Configuration configuration) {
+        requireSequential();
+        if (otherConfiguration == null) {
+            otherConfiguration = new HashSet<>();
+        }
         otherConfiguration.add(configuration);
     }
 
     @NonNull public Set<Configuration> getAllConfigurations() {
+        requireSequential();
         Set<Configuration> allConfigurations = new HashSet<>();
         allConfigurations.add(configuration);
         allConfigurations.add(bootstrapConfiguration);
-        allConfigurations.addAll(applicationEnvironmentConfiguration.values());
-        allConfigurations.addAll(bootstrapEnvironmentConfiguration.values());
-        allConfigurations.addAll(otherConfiguration);
+        if (applicationEnvironmentConfiguration != null) {
+            allConfigurations.addAll(applicationEnvironmentConfiguration.values());
+        }
+        if (bootstrapEnvironmentConfiguration != null) {
+            allConfigurations.addAll(bootstrapEnvironmentConfiguration.values());
+        }
+        if (otherConfiguration != null) {
+            allConfigurations.addAll(otherConfiguration);
+        }
         return allConfigurations;
     }
 
@@ -215,6 +282,7 @@ public class GeneratorContext implements DependencyContext {
      * @return The templates
      */
     @NonNull public Map<String, Template> getTemplates() {
+        read(GeneratorFacet.TEMPLATES);
         return Collections.unmodifiableMap(templates);
     }
 
@@ -222,6 +290,7 @@ public class GeneratorContext implements DependencyContext {
      * @return The templates
      */
     @NonNull public List<Writable> getHelpTemplates() {
+        read(GeneratorFacet.TEMPLATES);
         return Collections.unmodifiableList(helpTemplates);
     }
 
@@ -297,11 +366,52 @@ public class GeneratorContext implements DependencyContext {
         return operatingSystem;
     }
 
+    /**
+     * @return The instrumentation recording the timings of this generation
+     * @since 4.5.1
+     */
+    @NonNull
+    public GenerationInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * @param instrumentation The instrumentation recording the timings of this generation
+     * @since 4.5.1
+     */
+    public void setInstrumentation(@NonNull GenerationInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     public void applyFeatures() {
-        List<Feature> features = new ArrayList<>(this.features.getFeatures());
-        features.sort(Comparator.comparingInt(Feature::getOrder));
-        for (Feature feature: features) {
-            feature.apply(this);
+        applyFeatures(null);
+    }
+
+    /**
+     * Applies the features. The features of the same order which {@link Feature#getWriteFacets() declare} the facets
+     * they write to are applied concurrently with the given executor, recording their writes. The features of that
+     * order are then gone through in order, replaying the recorded writes and applying the other features, so the
+     * context ends up exactly as if they were all applied sequentially. A feature whose writes cannot be replayed,
+     * because it read what a feature before it wrote, is applied again at its place instead.
+     *
+     * @param executor The executor applying the features concurrently, or null to apply them sequentially
+     * @since 4.5.1
+     */
+    public void applyFeatures(@Nullable Executor executor) {
+        List<Feature> features = this.features.getOrderedFeatures();
+        boolean timed = instrumentation.isEnabled();
+        long phaseStart = timed ? System.nanoTime() : 0L;
+        int i = 0;
+        while (i < features.size()) {
+            int end = i + 1;
+            while (end < features.size() && features.get(end).getOrder() == features.get(i).getOrder()) {
+                end++;
+            }
+            applyFeatures(features.subList(i, end), executor, timed);
+            i = end;
+        }
+        if (timed) {
+            instrumentation.phase(GenerationPhase.APPLY_FEATURES, System.nanoTime() - phaseStart);
         }
     }
 
@@ -360,10 +470,12 @@ public class GeneratorContext implements DependencyContext {
     }
 
     public void addBuildPlugin(BuildPlugin buildPlugin) {
-        if (buildPlugin.requiresLookup()) {
-            this.buildPlugins.add(buildPlugin.resolved(coordinateResolver));
+        FeatureJournal journal = journal();
+        if (journal == null) {
+            this.buildPlugins.add(buildPlugin.requiresLookup() ? buildPlugin.resolved(coordinateResolver) : buildPlugin);
         } else {
-            this.buildPlugins.add(buildPlugin);
+            journal.record(GeneratorFacet.BUILD_PLUGINS,
+                    () -> this.buildPlugins.add(buildPlugin.requiresLookup() ? buildPlugin.resolved(coordinateResolver) : buildPlugin));
         }
     }
 
@@ -374,20 +486,34 @@ public class GeneratorContext implements DependencyContext {
 
     @Override
     public void addDependency(@NonNull Dependency dependency) {
-        dependencyContext.addDependency(dependency);
+        FeatureJournal journal = journal();
+        if (journal == null) {
+            dependencyContext.addDependency(dependency);
+        } else {
+            journal.record(GeneratorFacet.DEPENDENCIES, () -> dependencyContext.addDependency(dependency));
+        }
     }
 
     @NonNull
     @Override
     public Collection<Dependency> getDependencies() {
+        read(GeneratorFacet.DEPENDENCIES);
         return dependencyContext.getDependencies();
     }
 
+    @NonNull
+    @Override
+    public List<Dependency> removeDuplicates(Collection<Dependency> dependencies, Language language, BuildTool buildTool) {
+        return dependencyContext.removeDuplicates(dependencies, language, buildTool);
+    }
+
     public Set<BuildPlugin> getBuildPlugins() {
+        read(GeneratorFacet.BUILD_PLUGINS);
         return buildPlugins;
     }
 
     public Collection<String> getModuleNames() {
+        read(GeneratorFacet.TEMPLATES);
         return templates.values()
                 .stream()
                 .map(Template::getModule)
@@ -397,6 +523,10 @@ public class GeneratorContext implements DependencyContext {
     }
 
     public void addProfile(@NonNull Profile profile) {
+        requireSequential();
+        if (profiles == null) {
+            profiles = new HashSet<>();
+        }
         Optional<Profile> optionalProfile = profiles.stream().filter(it -> it.getId().equals(profile.getId())).findFirst();
         if (optionalProfile.isPresent()) {
             optionalProfile.get().addActivationProperties(profile.getActivationProperties());
@@ -409,7 +539,8 @@ public class GeneratorContext implements DependencyContext {
 
     @NonNull
     public Collection<Profile> getProfiles() {
-        return profiles;
+        requireSequential();
+        return profiles == null ? Collections.emptySet() : profiles;
     }
 
     public <T extends Feature> boolean hasFeature(Class<T> featureClass) {
@@ -423,22 +554,129 @@ public class GeneratorContext implements DependencyContext {
     public boolean hasDependencyInScope(@NonNull String groupId,
                                         @NonNull String artifactId,
                                         @NonNull Scope scope) {
-        return getDependencies().stream()
-                .anyMatch(dependency -> dependency.getGroupId().equals(groupId) &&
-                        dependency.getArtifactId().equals(artifactId)
-                        && dependency.getScope() == scope);
+        read(GeneratorFacet.DEPENDENCIES);
+        return dependencyContext.hasDependencyInScope(groupId, artifactId, scope);
     }
 
     public boolean hasDependency(@NonNull String groupId,
                                         @NonNull String artifactId) {
-        return getDependencies().stream()
-                .anyMatch(dependency -> dependency.getGroupId().equals(groupId) &&
-                        dependency.getArtifactId().equals(artifactId));
+        read(GeneratorFacet.DEPENDENCIES);
+        return dependencyContext.hasDependency(groupId, artifactId);
     }
 
     public long countDependencies(@NonNull String groupId) {
-        return getDependencies().stream()
-                .filter(dependency -> dependency.getGroupId().equals(groupId))
-                .count();
+        read(GeneratorFacet.DEPENDENCIES);
+        return dependencyContext.countDependencies(groupId);
+    }
+
+    /**
+     * Applies features of the same order.
+     *
+     * @param features The features
+     * @param executor The executor applying the features concurrently, or null to apply them sequentially
+     * @param timed Whether the features are timed
+     */
+    private void applyFeatures(List<Feature> features, @Nullable Executor executor, boolean timed) {
+        Map<Feature, FeatureJournal> featureJournals = executor == null ? Collections.emptyMap() : applyConcurrently(features, executor);
+        if (featureJournals.isEmpty()) {
+            for (Feature feature : features) {
+                applyFeature(feature, timed);
+            }
+            return;
+        }
+        // the facets written by the features gone through so far, any of them for a feature applied sequentially
+        Set<GeneratorFacet> written = EnumSet.noneOf(GeneratorFacet.class);
+        for (Feature feature : features) {
+            FeatureJournal journal = featureJournals.get(feature);
+            if (journal != null && journal.isReplayable(written)) {
+                journal.replay();
+                written.addAll(journal.getWrittenFacets());
+                if (timed) {
+                    instrumentation.featureApplied(feature.getName(), journal.getNanos());
+                }
+            } else {
+                applyFeature(feature, timed);
+                written = EnumSet.allOf(GeneratorFacet.class);
+            }
+        }
+    }
+
+    private void applyFeature(Feature feature, boolean timed) {
+        if (!timed) {
+            feature.apply(this);
+            return;
+        }
+        long start = System.nanoTime();
+        feature.apply(this);
+        instrumentation.featureApplied(feature.getName(), System.nanoTime() - start);
+    }
+
+    /**
+     * Applies the features declaring the facets they write to concurrently, each recording its writes and reads in a
+     * journal. Nothing is written to the context until all of them are applied, so they can all read it safely.
+     *
+     * @param features The features of the same order
+     * @param executor The executor
+     * @return The journals of the features applied concurrently, empty if fewer than two features could be
+     */
+    private Map<Feature, FeatureJournal> applyConcurrently(List<Feature> features, Executor executor) {
+        List<Feature> concurrent = features.stream().filter(GeneratorContext::isConcurrent).toList();
+        if (concurrent.size() < 2) {
+            return Collections.emptyMap();
+        }
+        Map<Feature, FeatureJournal> featureJournals = new IdentityHashMap<>(concurrent.size() * 2);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(concurrent.size());
+        journaling = true;
+        try {
+            for (Feature feature : concurrent) {
+                FeatureJournal journal = new FeatureJournal(feature);
+                featureJournals.put(feature, journal);
+                futures.add(CompletableFuture.runAsync(() -> {
+                    journals.set(journal);
+                    long start = System.nanoTime();
+                    try {
+                        feature.apply(this);
+                    } catch (FeatureJournal.SequentialApplicationRequired e) {
+                        // applied again sequentially
+                    } catch (RuntimeException | Error e) {
+                        // thrown when replayed, unless the feature is applied again sequentially
+                        journal.setFailure(e);
+                    } finally {
+                        journal.setNanos(System.nanoTime() - start);
+                        journals.remove();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            journaling = false;
+        }
+        return featureJournals;
+    }
+
+    private static boolean isConcurrent(Feature feature) {
+        return !feature.getWriteFacets().isEmpty();
+    }
+
+    /**
+     * @return The journal of the feature applied concurrently on this thread, or null when writing to the context
+     */
+    @Nullable
+    private FeatureJournal journal() {
+        return journaling ? journals.get() : null;
+    }
+
+    private void read(GeneratorFacet facet) {
+        FeatureJournal journal = journal();
+        if (journal != null) {
+            journal.read(facet);
+        }
+    }
+
+    private void requireSequential() {
+        FeatureJournal journal = journal();
+        if (journal != null) {
+            journal.requireSequential();
+        }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+/**
+ * The parts of a {@link GeneratorContext} a feature writes to when it is applied.
+ *
+ * @see io.micronaut.starter.feature.Feature#getWriteFacets()
+ * @since 4.5.1
+ */
+public enum GeneratorFacet {
+
+    /**
+     * Templates and help templates, added or removed through {@link GeneratorContext#addTemplate}, {@link GeneratorContext#removeTemplate},
+     * {@link GeneratorContext#addHelpTemplate} and {@link GeneratorContext#addHelpLink}.
+     */
+    TEMPLATES,
+
+    /**
+     * Dependencies added through {@link GeneratorContext#addDependency}.
+     */
+    DEPENDENCIES,
+
+    /**
+     * The application configuration returned by {@link GeneratorContext#getConfiguration()}.
+     */
+    CONFIGURATION,
+
+    /**
+     * Build plugins added through {@link GeneratorContext#addBuildPlugin}.
+     */
+    BUILD_PLUGINS,
+
+    /**
+     * The build properties returned by {@link GeneratorContext#getBuildProperties()}.
+     */
+    BUILD_PROPERTIES
+}
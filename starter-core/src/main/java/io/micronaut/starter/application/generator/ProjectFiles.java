@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.application.generator;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.application.Project;
+import io.micronaut.starter.template.PathTemplate;
+import io.micronaut.starter.template.PrecompressedTemplate;
+import io.micronaut.starter.template.RenderedTemplate;
+import io.micronaut.starter.template.Template;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * The files of a generated project, mapped to the templates they are rendered from, without rendering them. The
+ * paths are those the templates are written to, and a path written by several templates maps to the first one, as
+ * the later ones are skipped when the project is generated.
+ *
+ * @since 4.5.1
+ */
+public final class ProjectFiles {
+
+    private final Map<String, Template> templates;
+
+    private ProjectFiles(Map<String, Template> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * @param project The project
+     * @param templates The templates, in the order they are rendered
+     * @return The files of the project
+     */
+    @NonNull
+    public static ProjectFiles of(@NonNull Project project, @NonNull Collection<Template> templates) {
+        Map<String, String> replacements = project.getProperties();
+        Map<String, Template> templatesByPath = new LinkedHashMap<>(templates.size() * 2);
+        for (Template template : templates) {
+            templatesByPath.putIfAbsent(PathTemplate.compile(template.getPath()).apply(replacements), template);
+        }
+        return new ProjectFiles(templatesByPath);
+    }
+
+    /**
+     * @return The templates by the path of the file they are rendered to
+     */
+    @NonNull
+    public Map<String, Template> getTemplates() {
+        return Collections.unmodifiableMap(templates);
+    }
+
+    /**
+     * @param path The path of a file
+     * @return The template the file is rendered from
+     */
+    @NonNull
+    public Optional<Template> getTemplate(@NonNull String path) {
+        return Optional.ofNullable(templates.get(path));
+    }
+
+    /**
+     * Returns the size of a file, if it is known without rendering it. Only the sizes of the templates held in memory,
+     * such as static resources, are known.
+     *
+     * @param path The path of a file
+     * @return The size of the file in bytes
+     */
+    @NonNull
+    public OptionalLong getSize(@NonNull String path) {
+        Template template = templates.get(path);
+        if (template instanceof PrecompressedTemplate precompressed) {
+            return OptionalLong.of(precompressed.getContents().getSize());
+        }
+        if (template instanceof RenderedTemplate rendered) {
+            return OptionalLong.of(rendered.getLength());
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Renders a single file as text. Binary files are not rendered.
+     *
+     * @param path The path of a file
+     * @return The text of the file, or empty if there is no such file or it is binary
+     * @throws IOException If the template cannot be rendered
+     */
+    @NonNull
+    public Optional<String> renderText(@NonNull String path) throws IOException {
+        Template template = templates.get(path);
+        if (template == null || template.isBinary()) {
+            return Optional.empty();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        template.write(out);
+        return Optional.of(out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -43,6 +43,23 @@ public interface ProjectGenerator {
             OutputHandler outputHandler,
             GeneratorContext generatorContext) throws Exception;
 
+    /**
+     * Applies the features of the given context and lists the files the project would be generated with, without
+     * rendering them.
+     *
+     * @param applicationType The application type
+     * @param project The project
+     * @param generatorContext The generator context
+     * @return The files of the project
+     * @since 4.5.1
+     */
+    default ProjectFiles resolveFiles(ApplicationType applicationType,
+                                      Project project,
+                                      GeneratorContext generatorContext) {
+        generatorContext.applyFeatures();
+        return ProjectFiles.of(project, generatorContext.getTemplates().values());
+    }
+
     GeneratorContext createGeneratorContext(
             ApplicationType applicationType,
             Project project,
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.build.dependencies;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of artifact id to coordinate, backed by the sorted arrays generated at build time. Creating it
+ * does not hash or copy anything, and lookups are binary searches.
+ *
+ * @since 4.5.1
+ */
+final class CoordinateTable extends AbstractMap<String, Coordinate> {
+
+    private final String[] artifactIds;
+    private final Coordinate[] coordinates;
+
+    /**
+     * @param artifactIds The artifact ids, sorted in their natural order and without duplicates
+     * @param coordinates The coordinates, in the order of their artifact ids
+     */
+    CoordinateTable(@NonNull String[] artifactIds, @NonNull Coordinate[] coordinates) {
+        if (artifactIds.length != coordinates.length) {
+            throw new IllegalArgumentException("Expected " + artifactIds.length + " coordinates but got " + coordinates.length);
+        }
+        for (int i = 1; i < artifactIds.length; i++) {
+            if (artifactIds[i - 1].compareTo(artifactIds[i]) >= 0) {
+                throw new IllegalArgumentException("Artifact ids are not sorted at " + artifactIds[i]);
+            }
+        }
+        this.artifactIds = artifactIds;
+        this.coordinates = coordinates;
+    }
+
+    @Override
+    public Coordinate get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : coordinates[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return artifactIds.length;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Coordinate>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Coordinate>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < artifactIds.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Coordinate> next() {
+                        if (index >= artifactIds.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<String, Coordinate> entry = new AbstractMap.SimpleImmutableEntry<>(artifactIds[index], coordinates[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return artifactIds.length;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String artifactId ? Arrays.binarySearch(artifactIds, artifactId) : -1;
+    }
+}
@@ -19,7 +19,8 @@ import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.NonNull;
 import jakarta.inject.Singleton;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Singleton
@@ -29,15 +30,36 @@ public class DefaultCoordinateResolver implements CoordinateResolver {
     private final CoordinateResolver[] coordinateResolvers;
 
     public DefaultCoordinateResolver(CoordinateResolver[] coordinateResolvers) {
-        this.coordinateResolvers = coordinateResolvers;
+        this.coordinateResolvers = flatten(coordinateResolvers);
     }
 
     @NonNull
     public Optional<Coordinate> resolve(@NonNull String artifactId) {
-        return Arrays.stream(coordinateResolvers)
-                .map(resolver -> resolver.resolve(artifactId))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findFirst();
+        for (CoordinateResolver resolver : coordinateResolvers) {
+            Optional<Coordinate> coordinate = resolver.resolve(artifactId);
+            if (coordinate.isPresent()) {
+                return coordinate;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces the nested default resolvers with the resolvers they delegate to, so that a lookup goes through a
+     * single flat array.
+     *
+     * @param coordinateResolvers The resolvers
+     * @return The resolvers without nested default resolvers
+     */
+    private static CoordinateResolver[] flatten(CoordinateResolver[] coordinateResolvers) {
+        List<CoordinateResolver> flattened = new ArrayList<>(coordinateResolvers.length);
+        for (CoordinateResolver resolver : coordinateResolvers) {
+            if (resolver instanceof DefaultCoordinateResolver defaultCoordinateResolver && defaultCoordinateResolver.getClass() == DefaultCoordinateResolver.class) {
+                flattened.addAll(List.of(defaultCoordinateResolver.coordinateResolvers));
+            } else {
+                flattened.add(resolver);
+            }
+        }
+        return flattened.toArray(new CoordinateResolver[0]);
     }
 }
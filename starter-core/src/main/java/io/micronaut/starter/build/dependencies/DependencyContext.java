@@ -21,9 +21,12 @@ import io.micronaut.starter.options.Language;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import static io.micronaut.starter.build.dependencies.Phase.COMPILATION;
@@ -44,70 +47,72 @@ public interface DependencyContext {
         addDependency(dependency.build());
     }
 
+    /**
+     * Removes the dependencies that are already on the main or test classpath in a scope that takes precedence. Dependencies
+     * are indexed by their coordinate in a single pass, so the cost is dominated by sorting the dependencies once.
+     *
+     * @param dependencies The dependencies
+     * @param language The language
+     * @param buildTool The build tool
+     * @return The dependencies without duplicates, sorted with {@link Dependency#COMPARATOR}
+     */
     @NonNull
     default List<Dependency> removeDuplicates(Collection<Dependency> dependencies, Language language, BuildTool buildTool) {
+        boolean groovyMaven = language == Language.GROOVY && buildTool == BuildTool.MAVEN;
+        List<Dependency> result = new ArrayList<>(dependencies.size());
+        List<Dependency> dependenciesInMainClasspath = new ArrayList<>();
+        List<Dependency> dependenciesInTestClasspath = new ArrayList<>();
+        for (Dependency dependency : dependencies) {
+            boolean compileApiOrRuntime = IS_COMPILE_API_OR_RUNTIME.test(dependency);
+            boolean classpath = compileApiOrRuntime ||
+                    (groovyMaven && dependency.getScope().getPhases().contains(Phase.ANNOTATION_PROCESSING));
+            if (!classpath) {
+                result.add(dependency);
+            } else if (dependency.getScope().getSource() == Source.MAIN) {
+                dependenciesInMainClasspath.add(dependency);
+            } else if (dependency.getScope().getSource() == Source.TEST && compileApiOrRuntime) {
+                dependenciesInTestClasspath.add(dependency);
+            }
+        }
 
-        List<Dependency> dependenciesNotInMainOrTestClasspath = dependencies.stream()
-                .filter(d -> {
-                    if (language == Language.GROOVY && buildTool == BuildTool.MAVEN) {
-                        return !IS_COMPILE_API_OR_RUNTIME.test(d) && !d.getScope().getPhases().contains(Phase.ANNOTATION_PROCESSING);
-                    }
-                    return !IS_COMPILE_API_OR_RUNTIME.test(d);
-                })
-                .toList();
-
-        List<Dependency> dependenciesInMainClasspath = dependencies.stream()
-                .filter(d -> {
-                    if (d.getScope().getSource() != Source.MAIN) {
-                        return false;
-                    }
-                    if (language == Language.GROOVY && buildTool == BuildTool.MAVEN) {
-                        return IS_COMPILE_API_OR_RUNTIME.test(d) || d.getScope().getPhases().contains(Phase.ANNOTATION_PROCESSING);
-                    }
-                    return IS_COMPILE_API_OR_RUNTIME.test(d);
-
-                })
-                .toList();
-        List<Dependency> dependenciesInMainClasspathWithoutDuplicates = filterDuplicates(dependenciesInMainClasspath);
-
-        List<Dependency> dependenciesInTestClasspath = dependencies.stream()
-                .filter(d -> d.getScope().getSource() == Source.TEST && IS_COMPILE_API_OR_RUNTIME.test(d))
-                .toList();
-
-        List<Dependency> dependenciesInTestClasspathWithoutDuplicates = filterDuplicates(dependenciesInTestClasspath);
-
-        dependenciesInTestClasspathWithoutDuplicates.removeIf(testDep -> {
-            MavenCoordinate test = new MavenCoordinate(testDep.getGroupId(), testDep.getArtifactId(), testDep.getVersion());
-            return dependenciesInMainClasspathWithoutDuplicates.stream()
-                    .filter(mainDep -> (mainDep.getScope().getPhases().contains(RUNTIME) && mainDep.getScope().getPhases().contains(COMPILATION)))
-                    .anyMatch(mainDep -> {
-                        MavenCoordinate main = new MavenCoordinate(mainDep.getGroupId(), mainDep.getArtifactId(), mainDep.getVersion());
-                        return main.equals(test);
-                    });
-        });
-        List<Dependency> result = new ArrayList<>(dependenciesNotInMainOrTestClasspath);
-        result.addAll(dependenciesInMainClasspathWithoutDuplicates);
-        result.addAll(dependenciesInTestClasspathWithoutDuplicates);
-        return result.stream().sorted(Dependency.COMPARATOR).toList();
+        Map<MavenCoordinate, Dependency> main = indexByCoordinate(dependenciesInMainClasspath);
+        Set<MavenCoordinate> compiledAndRuntimeInMain = new HashSet<>();
+        for (Map.Entry<MavenCoordinate, Dependency> entry : main.entrySet()) {
+            Set<Phase> phases = entry.getValue().getScope().getPhases();
+            if (phases.contains(RUNTIME) && phases.contains(COMPILATION)) {
+                compiledAndRuntimeInMain.add(entry.getKey());
+            }
+        }
+        result.addAll(main.values());
+        for (Map.Entry<MavenCoordinate, Dependency> entry : indexByCoordinate(dependenciesInTestClasspath).entrySet()) {
+            if (!compiledAndRuntimeInMain.contains(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        result.sort(Dependency.COMPARATOR);
+        return Collections.unmodifiableList(result);
     }
 
-    private static List<Dependency> filterDuplicates(List<Dependency> dependencies) {
-        List<Dependency> dependenciesWithoutDuplicates = new ArrayList<>();
-        Map<MavenCoordinate, Scope> dependenciesWithScope = new HashMap<>();
-        for (Dependency dep : dependencies.stream().sorted(Dependency.COMPARATOR).toList()) {
+    /**
+     * Indexes the given dependencies by their coordinate. A dependency replaces a previous one with the same coordinate
+     * when it is ordered after the scope of the previous one, and moves to the end of the index.
+     *
+     * @param dependencies The dependencies
+     * @return The dependencies that are kept, by coordinate
+     */
+    private static Map<MavenCoordinate, Dependency> indexByCoordinate(List<Dependency> dependencies) {
+        dependencies.sort(Dependency.COMPARATOR);
+        Map<MavenCoordinate, Dependency> dependenciesByCoordinate = new LinkedHashMap<>(dependencies.size() * 2);
+        for (Dependency dep : dependencies) {
             MavenCoordinate coordinate = new MavenCoordinate(dep.getGroupId(), dep.getArtifactId(), dep.getVersion());
-            if (dependenciesWithScope.containsKey(coordinate)) {
-                if (dependenciesWithScope.get(coordinate).getOrder() < dep.getOrder()) {
-                    dependenciesWithScope.remove(coordinate);
-                    dependenciesWithoutDuplicates.removeIf(f -> new MavenCoordinate(f.getGroupId(), f.getArtifactId(), f.getVersion()).equals(coordinate));
-                    dependenciesWithScope.put(coordinate, dep.getScope());
-                    dependenciesWithoutDuplicates.add(dep);
-                }
-            } else {
-                dependenciesWithScope.put(coordinate, dep.getScope());
-                dependenciesWithoutDuplicates.add(dep);
+            Dependency existing = dependenciesByCoordinate.get(coordinate);
+            if (existing == null) {
+                dependenciesByCoordinate.put(coordinate, dep);
+            } else if (existing.getScope().getOrder() < dep.getOrder()) {
+                dependenciesByCoordinate.remove(coordinate);
+                dependenciesByCoordinate.put(coordinate, dep);
             }
         }
-        return dependenciesWithoutDuplicates;
+        return dependenciesByCoordinate;
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.build.dependencies;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of rendered build file snippets. A dependency rendered in the same context always yields the same
+ * text, so the snippets are shared between generations. Lookups do not lock; once the cache is full it is emptied
+ * rather than tracking the least recently used snippets, since the set of dependencies in use is small and stable.
+ *
+ * @param <K> The key, made of the dependency and everything else the snippet depends on
+ * @since 4.5.1
+ */
+public final class SnippetCache<K> {
+
+    private final Map<K, String> snippets = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * @param maxSize The maximum number of cached snippets
+     */
+    public SnippetCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the snippet for the given key, rendering it if it is not cached. Concurrent misses for the same key may
+     * render the snippet more than once, but the same text is returned.
+     *
+     * @param key The key
+     * @param renderer Renders the snippet
+     * @return The snippet
+     */
+    @NonNull
+    public String get(@NonNull K key, @NonNull Supplier<String> renderer) {
+        String snippet = snippets.get(key);
+        if (snippet != null) {
+            return snippet;
+        }
+        snippet = renderer.get();
+        if (snippets.size() >= maxSize) {
+            snippets.clear();
+        }
+        String previous = snippets.putIfAbsent(key, snippet);
+        return previous != null ? previous : snippet;
+    }
+
+    /**
+     * @return The number of cached snippets
+     */
+    public int size() {
+        return snippets.size();
+    }
+}
@@ -37,6 +37,11 @@ public class GradleDependency extends DependencyCoordinate {
         return Coordinate.COMPARATOR.compare(o1, o2);
     };
 
+    private static final SnippetCache<SnippetKey> SNIPPETS = new SnippetCache<>(4096);
+
+    @NonNull
+    private final Dependency dependency;
+
     private final Boolean isKotlinDSL;
 
     @NonNull
@@ -48,6 +53,7 @@ public class GradleDependency extends DependencyCoordinate {
                             @NonNull GeneratorContext generatorContext,
                             boolean useVersionCatalogue) {
         super(dependency);
+        this.dependency = dependency;
         gradleConfiguration = GradleConfiguration.of(
                 dependency.getScope(),
                 generatorContext.getLanguage(),
@@ -87,8 +93,23 @@ public class GradleDependency extends DependencyCoordinate {
         return result;
     }
 
+    /**
+     * Renders the dependency for the dependencies block. The snippet only depends on the dependency, its configuration,
+     * the DSL and whether the version catalogue is used, so it is cached across builds.
+     *
+     * @return The snippet
+     */
     @NonNull
     public String toSnippet() {
+        if (getClass() != GradleDependency.class) {
+            return renderSnippet();
+        }
+        SnippetKey key = new SnippetKey(dependency, isPom(), gradleConfiguration.getConfigurationName(), isKotlinDSL, useVersionCatalogue);
+        return SNIPPETS.get(key, this::renderSnippet);
+    }
+
+    @NonNull
+    private String renderSnippet() {
         String snippet = gradleConfiguration.getConfigurationName();
         if (isPom()) {
             String platformPrefix = " ";
@@ -150,4 +171,11 @@ public class GradleDependency extends DependencyCoordinate {
                 .sorted(GradleDependency.COMPARATOR)
                 .toList();
     }
+
+    private record SnippetKey(Dependency dependency,
+                              boolean pom,
+                              String configurationName,
+                              boolean kotlinDsl,
+                              boolean useVersionCatalogue) {
+    }
 }
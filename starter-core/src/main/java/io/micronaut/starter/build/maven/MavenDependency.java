@@ -40,11 +40,17 @@ public class MavenDependency extends DependencyCoordinate {
         return DependencyCoordinate.COMPARATOR.compare(o1, o2);
     };
 
+    private static final SnippetCache<SnippetKey> SNIPPETS = new SnippetCache<>(4096);
+
+    @NonNull
+    private final Dependency dependency;
+
     @Nullable
     private final MavenScope mavenScope;
 
     public MavenDependency(@NonNull Dependency dependency, Language language) {
         super(dependency);
+        this.dependency = dependency;
         if (isPom()) {
             mavenScope = MavenScope.IMPORT;
         } else {
@@ -57,6 +63,22 @@ public class MavenDependency extends DependencyCoordinate {
         return mavenScope;
     }
 
+    /**
+     * Renders the dependency element of the POM. The element only depends on the dependency, its scope and whether it
+     * is declared with the pom type, so it is cached across builds.
+     *
+     * @param pom Whether the dependency is declared with the pom type
+     * @return The dependency element
+     */
+    @NonNull
+    public String toSnippet(boolean pom) {
+        String scope = mavenScope == null ? null : mavenScope.toString();
+        if (getClass() != MavenDependency.class) {
+            return renderSnippet(scope, pom);
+        }
+        return SNIPPETS.get(new SnippetKey(dependency, isPom(), mavenScope, pom), () -> renderSnippet(scope, pom));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -90,4 +112,16 @@ public class MavenDependency extends DependencyCoordinate {
                 .sorted(MavenDependency.COMPARATOR)
                 .toList();
     }
+
+    private String renderSnippet(@Nullable String scope, boolean pom) {
+        return io.micronaut.starter.feature.build.maven.templates.dependency.template(getGroupId(), getArtifactId(), scope, getVersion(), pom, getExclusions())
+                .render()
+                .toString();
+    }
+
+    private record SnippetKey(Dependency dependency,
+                              boolean pom,
+                              @Nullable MavenScope mavenScope,
+                              boolean pomType) {
+    }
 }
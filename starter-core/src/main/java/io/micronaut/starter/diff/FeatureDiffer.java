@@ -24,15 +24,23 @@ import io.micronaut.starter.application.OperatingSystem;
 import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
 import io.micronaut.starter.application.generator.ProjectGenerator;
+import io.micronaut.starter.io.Blob;
+import io.micronaut.starter.io.BlobStore;
 import io.micronaut.starter.io.ConsoleOutput;
 import io.micronaut.starter.io.MapOutputHandler;
+import io.micronaut.starter.options.BuildTool;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
 import io.micronaut.starter.options.Options;
+import io.micronaut.starter.options.TestFramework;
 import jakarta.inject.Singleton;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Methods for diffing projects and features.
@@ -44,6 +52,12 @@ import java.util.Map;
 @Singleton
 public class FeatureDiffer {
 
+    private static final int MAX_BASELINES = 64;
+
+    private final Map<ProjectGenerator, Map<BaselineKey, Map<String, Blob>>> baselines = Collections.synchronizedMap(new WeakHashMap<>());
+    // files equal to the baseline share its blob and compare by identity
+    private final BlobStore blobStore = new BlobStore();
+
     /**
      * Produces a Diff for the given arguments.
      * @param projectGenerator The project generator
@@ -86,83 +100,131 @@ public class FeatureDiffer {
             ProjectGenerator projectGenerator,
             GeneratorContext generatorContext,
             ConsoleOutput consoleOutput) throws Exception {
-        MapOutputHandler outputHandler = new MapOutputHandler();
         Project project = generatorContext.getProject();
         ApplicationType applicationType = generatorContext.getApplicationType();
-        projectGenerator.generate(
-                applicationType,
-                project,
-                new Options(generatorContext.getLanguage(), generatorContext.getTestFramework(), generatorContext.getBuildTool(), generatorContext.getJdkVersion()),
-                generatorContext.getOperatingSystem(),
-                Collections.emptyList(),
-                outputHandler,
-                ConsoleOutput.NOOP
-        );
-        Map<String, String> oldProject = outputHandler.getProject();
+        Map<String, Blob> oldProject = baseline(projectGenerator, generatorContext);
 
-        outputHandler = new MapOutputHandler();
+        MapOutputHandler outputHandler = new MapOutputHandler(blobStore);
         projectGenerator.generate(
                 applicationType,
                 project,
                 outputHandler,
                 generatorContext
         );
-        Map<String, String> newProject = outputHandler.getProject();
+        Map<String, Blob> newProject = outputHandler.getFiles();
 
-        for (Map.Entry<String, String> entry: newProject.entrySet()) {
-            String oldFile = oldProject.remove(entry.getKey());
-
-            if (entry.getValue() == null) {
+        for (Map.Entry<String, Blob> entry: newProject.entrySet()) {
+            if (outputHandler.isBinary(entry.getKey())) {
                 continue;
             }
 
-            List<String> oldFileLines = oldFile == null ? Collections.emptyList() : toLines(oldFile);
+            Blob oldFile = oldProject.get(entry.getKey());
+            Blob newFile = entry.getValue();
+            if (newFile.equals(oldFile)) {
+                // an unchanged file has no delta, both projects share the interned blob
+                continue;
+            }
 
-            String newFile = entry.getValue();
-            List<String> newFileLines = toLines(newFile);
+            List<String> oldFileLines = oldFile == null ? Collections.emptyList() : toLines(oldFile.asString());
+            List<String> newFileLines = toLines(newFile.asString());
 
             Patch<String> diff = DiffUtils.diff(oldFileLines, newFileLines);
             List<String> unifiedDiff = UnifiedDiffUtils
                     .generateUnifiedDiff(entry.getKey(), entry.getKey(), oldFileLines, diff, 3);
 
-            if (!unifiedDiff.isEmpty()) {
-                for (String delta : unifiedDiff) {
-                    if (delta.startsWith("+")) {
-                        consoleOutput.green(delta);
-                    } else if (delta.startsWith("-")) {
-                        consoleOutput.red(delta);
-                    } else {
-                        consoleOutput.out(delta);
-                    }
-                }
-                consoleOutput.out("\n");
-            }
+            print(unifiedDiff, consoleOutput);
         }
 
-        for (Map.Entry<String, String> entry: oldProject.entrySet()) {
-            if (entry.getValue() == null) {
+        for (Map.Entry<String, Blob> entry: oldProject.entrySet()) {
+            if (newProject.containsKey(entry.getKey())) {
                 continue;
             }
-            List<String> oldFileLines = toLines(entry.getValue());
+            List<String> oldFileLines = toLines(entry.getValue().asString());
             Patch<String> diff = DiffUtils.diff(oldFileLines, Collections.emptyList());
             List<String> unifiedDiff = UnifiedDiffUtils.generateUnifiedDiff(entry.getKey(), entry.getKey(), oldFileLines, diff, 3);
 
-            if (!unifiedDiff.isEmpty()) {
-                for (String delta : unifiedDiff) {
-                    if (delta.startsWith("+")) {
-                        consoleOutput.green(delta);
-                    } else if (delta.startsWith("-")) {
-                        consoleOutput.red(delta);
-                    } else {
-                        consoleOutput.out(delta);
-                    }
+            print(unifiedDiff, consoleOutput);
+        }
+    }
+
+    /**
+     * Returns the project generated without any selected feature, which the features are diffed against. The
+     * project only depends on the application type, project, language, test framework, build tool, JDK version and
+     * operating system, so it is generated once per combination and cached.
+     *
+     * @param projectGenerator The project generator
+     * @param generatorContext The generator context
+     * @return The text files of the baseline project, which must not be modified
+     * @throws Exception If the project cannot be generated
+     */
+    private Map<String, Blob> baseline(ProjectGenerator projectGenerator, GeneratorContext generatorContext) throws Exception {
+        Options options = new Options(generatorContext.getLanguage(), generatorContext.getTestFramework(), generatorContext.getBuildTool(), generatorContext.getJdkVersion());
+        BaselineKey key = new BaselineKey(generatorContext.getApplicationType(),
+                generatorContext.getProject() == null ? null : generatorContext.getProject().getProperties(),
+                options.getLanguage(),
+                options.getTestFramework(),
+                options.getBuildTool(),
+                options.getJavaVersion(),
+                generatorContext.getOperatingSystem());
+        Map<BaselineKey, Map<String, Blob>> cache = baselines.computeIfAbsent(projectGenerator, generator -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BaselineKey, Map<String, Blob>> eldest) {
+                return size() > MAX_BASELINES;
+            }
+        });
+        synchronized (cache) {
+            Map<String, Blob> baseline = cache.get(key);
+            if (baseline != null) {
+                return baseline;
+            }
+        }
+        MapOutputHandler outputHandler = new MapOutputHandler(blobStore);
+        projectGenerator.generate(
+                generatorContext.getApplicationType(),
+                generatorContext.getProject(),
+                options,
+                generatorContext.getOperatingSystem(),
+                Collections.emptyList(),
+                outputHandler,
+                ConsoleOutput.NOOP
+        );
+        Map<String, Blob> textFiles = new LinkedHashMap<>(outputHandler.getFiles());
+        textFiles.keySet().removeIf(outputHandler::isBinary);
+        Map<String, Blob> baseline = Collections.unmodifiableMap(textFiles);
+        synchronized (cache) {
+            cache.put(key, baseline);
+        }
+        return baseline;
+    }
+
+    private void print(List<String> unifiedDiff, ConsoleOutput consoleOutput) {
+        if (!unifiedDiff.isEmpty()) {
+            for (String delta : unifiedDiff) {
+                if (delta.startsWith("+")) {
+                    consoleOutput.green(delta);
+                } else if (delta.startsWith("-")) {
+                    consoleOutput.red(delta);
+                } else {
+                    consoleOutput.out(delta);
                 }
-                consoleOutput.out("\n");
             }
+            consoleOutput.out("\n");
         }
     }
 
     private List<String> toLines(String file) {
         return Arrays.asList(file.split("\n"));
     }
+
+    /**
+     * Everything the baseline project depends on.
+     */
+    private record BaselineKey(ApplicationType applicationType,
+                               Map<String, String> project,
+                               Language language,
+                               TestFramework testFramework,
+                               BuildTool buildTool,
+                               JdkVersion jdkVersion,
+                               OperatingSystem operatingSystem) {
+    }
 }
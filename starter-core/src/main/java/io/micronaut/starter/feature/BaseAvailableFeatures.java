@@ -18,17 +18,30 @@ package io.micronaut.starter.feature;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class BaseAvailableFeatures implements AvailableFeatures {
+    private static final int MAX_RESOLVED = 256;
+
     private final Map<String, Feature> features;
+    private final FeatureIds ids;
+    // held by this bean only, so that it is released with the bean context rather than outliving it
+    private final Map<FeatureSelection, ResolvedFeatures> resolved = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FeatureSelection, ResolvedFeatures> eldest) {
+            return size() > MAX_RESOLVED;
+        }
+    };
 
     public BaseAvailableFeatures(List<Feature> features, ApplicationType applicationType) {
         this.features = features.stream()
@@ -40,6 +53,7 @@ public class BaseAvailableFeatures implements AvailableFeatures {
                             throw new IllegalArgumentException("Duplicate feature found " + u.getName());
                         },
                         LinkedHashMap::new));
+        this.ids = new FeatureIds(this.features.values());
     }
 
     @Override
@@ -74,4 +88,52 @@ public class BaseAvailableFeatures implements AvailableFeatures {
     public Stream<Feature> getAllFeatures() {
         return features.values().stream();
     }
+
+    /**
+     * @param feature The feature
+     * @return The dense id of the feature, assigned in registration order, or -1 if the feature is not registered
+     * @since 4.5.1
+     */
+    public int getId(@NonNull Feature feature) {
+        return ids.idOf(feature);
+    }
+
+    /**
+     * @param features The features
+     * @return An immutable snapshot of the given features, which may include features not registered here
+     * @since 4.5.1
+     */
+    @NonNull
+    public FeatureSelection toSelection(@NonNull Collection<? extends Feature> features) {
+        return FeatureSelection.of(ids, features);
+    }
+
+    /**
+     * Resolves the read-only part of the features of a generation. Generations resolving the same registered
+     * features share it, instead of indexing and sorting the features again.
+     *
+     * @param features The features to apply
+     * @return The resolved features, shared if all the features are registered here
+     * @since 4.5.1
+     */
+    @NonNull
+    public ResolvedFeatures resolve(@NonNull Set<Feature> features) {
+        for (Feature feature : features) {
+            if (ids.idOf(feature) == -1) {
+                return ResolvedFeatures.of(features);
+            }
+        }
+        FeatureSelection selection = toSelection(features);
+        ResolvedFeatures resolvedFeatures;
+        synchronized (resolved) {
+            resolvedFeatures = resolved.get(selection);
+        }
+        if (resolvedFeatures == null) {
+            resolvedFeatures = ResolvedFeatures.of(new LinkedHashSet<>(features));
+            synchronized (resolved) {
+                resolved.put(selection, resolvedFeatures);
+            }
+        }
+        return resolvedFeatures;
+    }
 }
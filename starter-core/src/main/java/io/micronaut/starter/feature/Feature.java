@@ -23,6 +23,10 @@ import io.micronaut.core.naming.Named;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
+
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * A feature is a class that affects the outcome of a generated
@@ -114,6 +118,22 @@ public interface Feature extends Named, Ordered, Described {
 
     }
 
+    /**
+     * The facets of the {@link GeneratorContext} this feature writes to when it is {@link #apply(GeneratorContext) applied}.
+     * A feature declaring them promises it writes nothing else, and fails otherwise. It may then be applied
+     * concurrently with the other such features of the same {@link #getOrder() order}. A feature reading what a feature
+     * applied before it in that order writes, or doing anything its writes cannot be recorded for, is applied again
+     * sequentially, so that the generated project is the same either way. By default, nothing is declared and the
+     * feature is always applied sequentially.
+     *
+     * @return The facets this feature writes to, or an empty set if they are not declared
+     * @since 4.5.1
+     */
+    @NonNull
+    default Set<GeneratorFacet> getWriteFacets() {
+        return Collections.emptySet();
+    }
+
     /**
      * This method must be implemented to ensure it is only selectable for the desired
      * application types. This method is not used for determining if a default feature
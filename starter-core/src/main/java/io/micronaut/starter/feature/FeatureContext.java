@@ -29,6 +29,7 @@ import io.micronaut.starter.options.TestFramework;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
@@ -43,14 +44,34 @@ public class FeatureContext {
     private final OperatingSystem operatingSystem;
     private final Set<Feature> selectedFeatures;
     private final Options options;
+    private final AvailableFeatures availableFeatures;
     private final List<Feature> features = new ArrayList<>();
     private final List<FeaturePredicate> exclusions = new ArrayList<>();
+    private final FeatureTypeIndex featureTypeIndex = new FeatureTypeIndex();
+    private final Set<Feature> excludedFeatures = Collections.newSetFromMap(new IdentityHashMap<>());
     private ListIterator<Feature> iterator;
 
     public FeatureContext(Options options,
                           ApplicationType applicationType,
                           @Nullable OperatingSystem operatingSystem,
                           Set<Feature> selectedFeatures) {
+        this(options, applicationType, operatingSystem, selectedFeatures, null);
+    }
+
+    /**
+     * @param options The options
+     * @param applicationType The application type
+     * @param operatingSystem The operating system
+     * @param selectedFeatures The selected features
+     * @param availableFeatures The available features the selected features were found in
+     * @since 4.5.1
+     */
+    public FeatureContext(Options options,
+                          ApplicationType applicationType,
+                          @Nullable OperatingSystem operatingSystem,
+                          Set<Feature> selectedFeatures,
+                          @Nullable AvailableFeatures availableFeatures) {
+        this.availableFeatures = availableFeatures;
         this.applicationType = applicationType;
         this.operatingSystem = operatingSystem;
         this.selectedFeatures = selectedFeatures;
@@ -68,6 +89,9 @@ public class FeatureContext {
 
     public void processSelectedFeatures() {
         features.addAll(0, selectedFeatures);
+        for (Feature feature : selectedFeatures) {
+            index(feature);
+        }
         features.sort(Comparator.comparingInt(Feature::getOrder));
         iterator = features.listIterator();
         while (iterator.hasNext()) {
@@ -79,6 +103,11 @@ public class FeatureContext {
 
     public void exclude(FeaturePredicate exclusion) {
         exclusions.add(exclusion);
+        for (Feature feature : features) {
+            if (exclusion.test(feature)) {
+                excludedFeatures.add(feature);
+            }
+        }
     }
 
     public Set<Feature> getFinalFeatures(ConsoleOutput consoleOutput) {
@@ -129,6 +158,27 @@ public class FeatureContext {
         return Collections.unmodifiableSet(selectedFeatures);
     }
 
+    /**
+     * @return The available features the selected features were found in, if known
+     * @since 4.5.1
+     */
+    @Nullable
+    public AvailableFeatures getAvailableFeatures() {
+        return availableFeatures;
+    }
+
+    /**
+     * @param finalFeatures The {@link #getFinalFeatures(ConsoleOutput) final features}
+     * @return The resolved final features, shared with the other generations resolving them if possible
+     * @since 4.5.1
+     */
+    public ResolvedFeatures resolve(Set<Feature> finalFeatures) {
+        if (availableFeatures instanceof BaseAvailableFeatures baseAvailableFeatures) {
+            return baseAvailableFeatures.resolve(finalFeatures);
+        }
+        return ResolvedFeatures.of(finalFeatures);
+    }
+
     /**
      * Adds a feature to be applied. The added feature is processed immediately.
      *
@@ -140,21 +190,43 @@ public class FeatureContext {
         } else {
             features.add(feature);
         }
+        index(feature);
         feature.processSelectedFeatures(this);
     }
 
     public boolean isPresent(Class<? extends Feature> feature) {
-        return features.stream()
-                .filter(f -> exclusions.stream().noneMatch(e -> e.test(f)))
-                .map(Feature::getClass)
-                .anyMatch(feature::isAssignableFrom);
+        for (Feature f : featureTypeIndex.get(feature)) {
+            if (!excludedFeatures.contains(f)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public Optional<Feature> getFeature(Class<? extends Feature> feature) {
-        return features.stream()
-                .filter(f -> exclusions.stream().noneMatch(e -> e.test(f)))
-                .filter(f -> feature.isAssignableFrom(f.getClass()))
-                .findFirst();
+        Feature match = null;
+        for (Feature f : featureTypeIndex.get(feature)) {
+            if (!excludedFeatures.contains(f)) {
+                if (match != null) {
+                    // several matches, the first one in the order of application wins
+                    return features.stream()
+                            .filter(candidate -> feature.isInstance(candidate) && !excludedFeatures.contains(candidate))
+                            .findFirst();
+                }
+                match = f;
+            }
+        }
+        return Optional.ofNullable(match);
+    }
+
+    private void index(Feature feature) {
+        featureTypeIndex.add(feature);
+        for (FeaturePredicate exclusion : exclusions) {
+            if (exclusion.test(feature)) {
+                excludedFeatures.add(feature);
+                break;
+            }
+        }
     }
 
     public void addFeatureIfNotPresent(Class<? extends Feature> featureClass, Feature feature) {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.feature;
+
+import io.micronaut.starter.util.HashUtils;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The dense ids of the features registered with an {@link AvailableFeatures}, assigned in registration order, and
+ * the stable hash of every feature name used to fingerprint {@link FeatureSelection feature selections}.
+ *
+ * @since 4.5.1
+ */
+final class FeatureIds {
+
+    private final Feature[] features;
+    private final long[] hashes;
+    private final Map<Feature, Integer> ids;
+
+    FeatureIds(Collection<Feature> features) {
+        this.features = features.toArray(new Feature[0]);
+        this.hashes = new long[this.features.length];
+        this.ids = new IdentityHashMap<>(this.features.length * 2);
+        for (int i = 0; i < this.features.length; i++) {
+            ids.put(this.features[i], i);
+            hashes[i] = hash(this.features[i].getName());
+        }
+    }
+
+    int size() {
+        return features.length;
+    }
+
+    /**
+     * @param feature The feature
+     * @return The id of the feature or -1 if it is not registered
+     */
+    int idOf(Feature feature) {
+        Integer id = ids.get(feature);
+        return id == null ? -1 : id;
+    }
+
+    long hash(int id) {
+        return hashes[id];
+    }
+
+    /**
+     * A 64-bit FNV-1a hash of the name, mixed so that sums of hashes stay well spread.
+     *
+     * @param name The feature name
+     * @return The hash
+     */
+    static long hash(String name) {
+        return HashUtils.mix(HashUtils.fnv1a(name));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.feature;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.util.HashUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable snapshot of a selection of features which can be used as a cache key. The features registered with a
+ * {@link BaseAvailableFeatures} are kept as the bits of their dense ids and any other feature by its name. The
+ * {@link #fingerprint()} only depends on the names of the features.
+ *
+ * @since 4.5.1
+ */
+public final class FeatureSelection {
+
+    private final FeatureIds ids;
+    private final long[] registered;
+    private final List<String> unregistered;
+    private final long fingerprint;
+
+    private FeatureSelection(FeatureIds ids, long[] registered, List<String> unregistered, long fingerprint) {
+        this.ids = ids;
+        this.registered = registered;
+        this.unregistered = unregistered;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param features The features
+     * @return The selection of the given features, kept by name
+     */
+    @NonNull
+    public static FeatureSelection of(@NonNull Collection<? extends Feature> features) {
+        return of(null, features);
+    }
+
+    /**
+     * Snapshots the given features in a single pass.
+     *
+     * @param ids The ids of the registered features, if any
+     * @param features The features
+     * @return The selection
+     */
+    static FeatureSelection of(@Nullable FeatureIds ids, Collection<? extends Feature> features) {
+        BitSet bits = ids == null ? new BitSet() : new BitSet(ids.size());
+        List<String> names = null;
+        long sum = 0;
+        int size = 0;
+        for (Feature feature : features) {
+            int id = ids == null ? -1 : ids.idOf(feature);
+            if (id == -1) {
+                if (names == null) {
+                    names = new ArrayList<>();
+                }
+                names.add(feature.getName());
+                sum += FeatureIds.hash(feature.getName());
+                size++;
+            } else if (!bits.get(id)) {
+                bits.set(id);
+                sum += ids.hash(id);
+                size++;
+            }
+        }
+        List<String> unregistered = Collections.emptyList();
+        if (names != null) {
+            Collections.sort(names);
+            unregistered = List.copyOf(names);
+        }
+        return new FeatureSelection(ids, bits.toLongArray(), unregistered, HashUtils.mix(sum + size));
+    }
+
+    /**
+     * @return A 64-bit fingerprint of the selection which only depends on the names of its features
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FeatureSelection that)) {
+            return false;
+        }
+        return fingerprint == that.fingerprint
+                && ids == that.ids
+                && Arrays.equals(registered, that.registered)
+                && unregistered.equals(that.unregistered);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "FeatureSelection{fingerprint=" + Long.toHexString(fingerprint) + "}";
+    }
+}
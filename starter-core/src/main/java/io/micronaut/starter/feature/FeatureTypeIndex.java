@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.feature;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes features by their class and every super class and interface of it, so that type based lookups
+ * do not have to scan all the features. Features are kept in the order in which they were added.
+ *
+ * @since 4.5.1
+ */
+final class FeatureTypeIndex {
+
+    private static final ClassValue<Class<?>[]> TYPE_HIERARCHY = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            collect(type, types);
+            return types.toArray(new Class<?>[0]);
+        }
+    };
+
+    private final Map<Class<?>, List<Feature>> index = new HashMap<>();
+
+    FeatureTypeIndex() {
+    }
+
+    FeatureTypeIndex(Iterable<? extends Feature> features) {
+        for (Feature feature : features) {
+            add(feature);
+        }
+    }
+
+    /**
+     * Adds a feature to the index.
+     *
+     * @param feature The feature
+     */
+    void add(@NonNull Feature feature) {
+        for (Class<?> type : TYPE_HIERARCHY.get(feature.getClass())) {
+            index.computeIfAbsent(type, k -> new ArrayList<>(2)).add(feature);
+        }
+    }
+
+    /**
+     * @param type The type
+     * @return The features which are instances of the given type, in the order they were added
+     */
+    @NonNull
+    List<Feature> get(@NonNull Class<?> type) {
+        List<Feature> features = index.get(type);
+        return features == null ? Collections.emptyList() : features;
+    }
+
+    /**
+     * @param type The type
+     * @return Whether any feature is an instance of the given type
+     */
+    boolean contains(@NonNull Class<?> type) {
+        return index.containsKey(type);
+    }
+
+    private static void collect(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+        collect(type.getSuperclass(), types);
+        for (Class<?> anInterface : type.getInterfaces()) {
+            collect(anInterface, types);
+        }
+    }
+}
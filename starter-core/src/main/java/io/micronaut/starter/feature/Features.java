@@ -24,46 +24,47 @@ import io.micronaut.starter.options.Options;
 import io.micronaut.starter.util.VersionInfo;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class Features extends ArrayList<String> {
 
-    private final Set<Feature> featureList;
+    private final ResolvedFeatures resolvedFeatures;
+    private final FeatureTypeIndex featureTypeIndex;
     private final BuildTool buildTool;
     private final GeneratorContext context;
-    private ApplicationFeature applicationFeature;
-    private LanguageFeature languageFeature;
-    private TestFeature testFeature;
     private final JdkVersion javaVersion;
 
     public Features(GeneratorContext context, Set<Feature> featureList, Options options) {
-        super(featureList.stream().map(Feature::getName).collect(Collectors.toList()));
-        this.featureList = featureList;
-        this.context = context;
-        for (Feature feature: featureList) {
-            if (applicationFeature == null && feature instanceof ApplicationFeature applicationFeature1) {
-                applicationFeature = applicationFeature1;
-            }
-            if (languageFeature == null && feature instanceof LanguageFeature languageFeature1) {
-                languageFeature = languageFeature1;
-            }
-            if (testFeature == null && feature instanceof TestFeature testFeature1) {
-                testFeature = testFeature1;
-            }
+        this(context, ResolvedFeatures.of(featureList), options);
+    }
+
+    /**
+     * @param context The generator context
+     * @param resolvedFeatures The resolved features, possibly shared with other generations
+     * @param options The options
+     * @since 4.5.1
+     */
+    public Features(GeneratorContext context, ResolvedFeatures resolvedFeatures, Options options) {
+        super(resolvedFeatures.getFeatures().size());
+        for (Feature feature : resolvedFeatures.getFeatures()) {
+            add(feature.getName());
         }
+        this.resolvedFeatures = resolvedFeatures;
+        this.featureTypeIndex = resolvedFeatures.getFeatureTypeIndex();
+        this.context = context;
         this.javaVersion = options.getJavaVersion();
         this.buildTool = options.getBuildTool();
     }
 
     public boolean hasFeature(Class<?> clazz) {
-        return getFeatures().stream().anyMatch(clazz::isInstance);
+        return featureTypeIndex.contains(clazz);
     }
 
     public boolean hasMultiProjectFeature() {
-        return getFeatures().stream().anyMatch(MultiProjectFeature.class::isInstance);
+        return featureTypeIndex.contains(MultiProjectFeature.class);
     }
 
     public BuildTool build() {
@@ -71,19 +72,27 @@ public class Features extends ArrayList<String> {
     }
 
     public ApplicationFeature application() {
-        return applicationFeature;
+        return resolvedFeatures.getApplicationFeature();
     }
 
     public LanguageFeature language() {
-        return languageFeature;
+        return resolvedFeatures.getLanguageFeature();
     }
 
     public TestFeature testFramework() {
-        return testFeature;
+        return resolvedFeatures.getTestFeature();
     }
 
     public Set<Feature> getFeatures() {
-        return featureList;
+        return resolvedFeatures.getFeatures();
+    }
+
+    /**
+     * @return The features in the order they are applied
+     * @since 4.5.1
+     */
+    public List<Feature> getOrderedFeatures() {
+        return resolvedFeatures.getOrderedFeatures();
     }
 
     public JdkVersion javaVersion() {
@@ -111,27 +120,20 @@ public class Features extends ArrayList<String> {
 
     public boolean isFeaturePresent(Class<? extends Feature> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        return getFeatures().stream()
-                .map(Feature::getClass)
-                .anyMatch(feature::isAssignableFrom);
+        return featureTypeIndex.contains(feature);
     }
 
     public <T extends Feature> Optional<T> getFeature(Class<T> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        for (Feature f : featureList) {
-            if (feature.isInstance(f)) {
-                return Optional.of((T) f);
-            }
-        }
-        return Optional.empty();
+        List<Feature> matches = featureTypeIndex.get(feature);
+        return matches.isEmpty() ? Optional.empty() : Optional.of((T) matches.get(0));
     }
 
     public <T extends Feature> T getRequiredFeature(Class<T> feature) {
         Objects.requireNonNull(feature, "The feature class cannot be null");
-        for (Feature f : featureList) {
-            if (feature.isInstance(f)) {
-                return (T) f;
-            }
+        List<Feature> matches = featureTypeIndex.get(feature);
+        if (!matches.isEmpty()) {
+            return (T) matches.get(0);
         }
         throw new IllegalStateException("The required feature type %s does not exist".formatted(feature.getName()));
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.feature;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.feature.lang.LanguageFeature;
+import io.micronaut.starter.feature.test.TestFeature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The read-only part of {@link Features} which only depends on the features to apply: their type index and the
+ * order in which they are applied. It does not depend on the project or the generation, so it is shared by every
+ * generation resolving the same features, see {@link BaseAvailableFeatures#resolve(Set)}.
+ *
+ * @since 4.5.1
+ */
+public final class ResolvedFeatures {
+
+    private final Set<Feature> features;
+    private final List<Feature> orderedFeatures;
+    private final FeatureTypeIndex featureTypeIndex;
+    private final ApplicationFeature applicationFeature;
+    private final LanguageFeature languageFeature;
+    private final TestFeature testFeature;
+
+    private ResolvedFeatures(Set<Feature> features) {
+        this.features = Collections.unmodifiableSet(features);
+        List<Feature> ordered = new ArrayList<>(features);
+        ordered.sort(Comparator.comparingInt(Feature::getOrder));
+        this.orderedFeatures = Collections.unmodifiableList(ordered);
+        this.featureTypeIndex = new FeatureTypeIndex(features);
+        this.applicationFeature = first(ApplicationFeature.class);
+        this.languageFeature = first(LanguageFeature.class);
+        this.testFeature = first(TestFeature.class);
+    }
+
+    /**
+     * @param features The features
+     * @return The resolved features, not shared with any other generation
+     */
+    @NonNull
+    public static ResolvedFeatures of(@NonNull Set<Feature> features) {
+        return new ResolvedFeatures(features);
+    }
+
+    /**
+     * @return The features
+     */
+    @NonNull
+    public Set<Feature> getFeatures() {
+        return features;
+    }
+
+    /**
+     * @return The features in the order they are applied
+     */
+    @NonNull
+    public List<Feature> getOrderedFeatures() {
+        return orderedFeatures;
+    }
+
+    /**
+     * @return The index of the features by type, which must not be modified
+     */
+    FeatureTypeIndex getFeatureTypeIndex() {
+        return featureTypeIndex;
+    }
+
+    @Nullable
+    ApplicationFeature getApplicationFeature() {
+        return applicationFeature;
+    }
+
+    @Nullable
+    LanguageFeature getLanguageFeature() {
+        return languageFeature;
+    }
+
+    @Nullable
+    TestFeature getTestFeature() {
+        return testFeature;
+    }
+
+    private <T> T first(Class<T> type) {
+        List<Feature> matches = featureTypeIndex.get(type);
+        return matches.isEmpty() ? null : type.cast(matches.get(0));
+    }
+}
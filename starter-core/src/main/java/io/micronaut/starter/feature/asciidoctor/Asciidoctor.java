@@ -15,8 +15,10 @@
  */
 package io.micronaut.starter.feature.asciidoctor;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.BuildProperties;
 import io.micronaut.starter.build.dependencies.CoordinateResolver;
 import io.micronaut.starter.build.gradle.GradlePlugin;
@@ -32,6 +34,8 @@ import io.micronaut.starter.template.RockerWritable;
 
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Asciidoctor implements Feature {
 
@@ -86,6 +90,12 @@ public class Asciidoctor implements Feature {
         generatorContext.addTemplate("indexAdoc", new RockerTemplate("src/docs/asciidoc/index.adoc", indexAdoc.template()));
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.TEMPLATES, GeneratorFacet.BUILD_PLUGINS, GeneratorFacet.BUILD_PROPERTIES);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
@@ -35,10 +35,10 @@ import io.micronaut.starter.feature.build.gradle.templates.gradleProperties;
 import io.micronaut.starter.feature.build.gradle.templates.settingsGradle;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Options;
-import io.micronaut.starter.template.BinaryTemplate;
+import io.micronaut.starter.template.PrecompressedTemplate;
+import io.micronaut.starter.template.ResourceContents;
 import io.micronaut.starter.template.RockerTemplate;
 import io.micronaut.starter.template.Template;
-import io.micronaut.starter.template.URLTemplate;
 import jakarta.inject.Singleton;
 
 import java.util.ArrayList;
@@ -69,6 +69,11 @@ public class Gradle implements BuildFeature {
     protected final GradleBuildCreator dependencyResolver;
     protected final RepositoryResolver repositoryResolver;
 
+    private final ResourceContents wrapperJar = ResourceContents.load(WRAPPER_JAR);
+    private final ResourceContents wrapperProperties = ResourceContents.load(WRAPPER_PROPS);
+    private final ResourceContents wrapperScript = ResourceContents.load("gradle/gradlew");
+    private final ResourceContents wrapperBatch = ResourceContents.load("gradle/gradlew.bat");
+
     public Gradle(GradleBuildCreator dependencyResolver,
                   RepositoryResolver repositoryResolver) {
         this.dependencyResolver = dependencyResolver;
@@ -112,11 +117,10 @@ public class Gradle implements BuildFeature {
     }
 
     protected void addGradleInitFiles(GeneratorContext generatorContext) {
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        generatorContext.addTemplate("gradleWrapperJar", new BinaryTemplate(Template.ROOT, WRAPPER_JAR, classLoader.getResource(WRAPPER_JAR)));
-        generatorContext.addTemplate("gradleWrapperProperties", new URLTemplate(Template.ROOT, WRAPPER_PROPS, classLoader.getResource(WRAPPER_PROPS)));
-        generatorContext.addTemplate("gradleWrapper", new URLTemplate(Template.ROOT, "gradlew", classLoader.getResource("gradle/gradlew"), true));
-        generatorContext.addTemplate("gradleWrapperBat", new URLTemplate(Template.ROOT, "gradlew.bat", classLoader.getResource("gradle/gradlew.bat"), false));
+        generatorContext.addTemplate("gradleWrapperJar", new PrecompressedTemplate(Template.ROOT, WRAPPER_JAR, wrapperJar, true, false));
+        generatorContext.addTemplate("gradleWrapperProperties", new PrecompressedTemplate(Template.ROOT, WRAPPER_PROPS, wrapperProperties));
+        generatorContext.addTemplate("gradleWrapper", new PrecompressedTemplate(Template.ROOT, "gradlew", wrapperScript, false, true));
+        generatorContext.addTemplate("gradleWrapperBat", new PrecompressedTemplate(Template.ROOT, "gradlew.bat", wrapperBatch));
     }
 
     protected List<GradlePlugin> extraPlugins(GeneratorContext generatorContext) {
@@ -35,10 +35,10 @@ import io.micronaut.starter.feature.build.maven.templates.multimodule;
 import io.micronaut.starter.feature.build.maven.templates.pom;
 import io.micronaut.starter.options.BuildTool;
 import io.micronaut.starter.options.Options;
-import io.micronaut.starter.template.BinaryTemplate;
+import io.micronaut.starter.template.PrecompressedTemplate;
+import io.micronaut.starter.template.ResourceContents;
 import io.micronaut.starter.template.RockerTemplate;
 import io.micronaut.starter.template.Template;
-import io.micronaut.starter.template.URLTemplate;
 import io.micronaut.starter.util.VersionInfo;
 import jakarta.inject.Singleton;
 
@@ -55,6 +55,11 @@ public class Maven implements BuildFeature {
     protected final MavenBuildCreator dependencyResolver;
     protected final RepositoryResolver repositoryResolver;
 
+    private final ResourceContents wrapperJar = ResourceContents.load(MAVEN_PREFIX + WRAPPER_JAR);
+    private final ResourceContents wrapperProperties = ResourceContents.load(MAVEN_PREFIX + WRAPPER_PROPS);
+    private final ResourceContents wrapperScript = ResourceContents.load(MAVEN_PREFIX + "mvnw");
+    private final ResourceContents wrapperBatch = ResourceContents.load(MAVEN_PREFIX + "mvnw.cmd");
+
     public Maven(MavenBuildCreator dependencyResolver, RepositoryResolver repositoryResolver) {
         this.dependencyResolver = dependencyResolver;
         this.repositoryResolver = repositoryResolver;
@@ -94,11 +99,10 @@ public class Maven implements BuildFeature {
     }
 
     protected void addMavenWrapper(GeneratorContext generatorContext) {
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        generatorContext.addTemplate("mavenWrapperJar", new BinaryTemplate(Template.ROOT, WRAPPER_JAR, classLoader.getResource(MAVEN_PREFIX + WRAPPER_JAR)));
-        generatorContext.addTemplate("mavenWrapperProperties", new URLTemplate(Template.ROOT, WRAPPER_PROPS, classLoader.getResource(MAVEN_PREFIX + WRAPPER_PROPS)));
-        generatorContext.addTemplate("mavenWrapper", new URLTemplate(Template.ROOT, "mvnw", classLoader.getResource(MAVEN_PREFIX + "mvnw"), true));
-        generatorContext.addTemplate("mavenWrapperBat", new URLTemplate(Template.ROOT, "mvnw.bat", classLoader.getResource(MAVEN_PREFIX + "mvnw.cmd"), false));
+        generatorContext.addTemplate("mavenWrapperJar", new PrecompressedTemplate(Template.ROOT, WRAPPER_JAR, wrapperJar, true, false));
+        generatorContext.addTemplate("mavenWrapperProperties", new PrecompressedTemplate(Template.ROOT, WRAPPER_PROPS, wrapperProperties));
+        generatorContext.addTemplate("mavenWrapper", new PrecompressedTemplate(Template.ROOT, "mvnw", wrapperScript, false, true));
+        generatorContext.addTemplate("mavenWrapperBat", new PrecompressedTemplate(Template.ROOT, "mvnw.bat", wrapperBatch));
 
     }
 
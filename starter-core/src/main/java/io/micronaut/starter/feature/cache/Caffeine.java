@@ -15,13 +15,17 @@
  */
 package io.micronaut.starter.feature.cache;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Caffeine implements Feature {
 
@@ -67,4 +71,10 @@ public class Caffeine implements Feature {
                 .artifactId("micronaut-cache-caffeine")
                 .compile());
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES);
+    }
 }
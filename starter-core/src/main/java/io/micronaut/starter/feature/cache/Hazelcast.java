@@ -15,10 +15,14 @@
  */
 package io.micronaut.starter.feature.cache;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Hazelcast implements CacheFeature {
 
@@ -46,6 +50,12 @@ public class Hazelcast implements CacheFeature {
                 .compile());
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public String getMicronautDocumentation() {
         return "https://micronaut-projects.github.io/micronaut-cache/latest/guide/index.html#hazelcast";
@@ -34,6 +34,8 @@ import java.util.Collections;
  */
 public class Configuration extends LinkedHashMap<String, Object> {
 
+    private static final Object MISSING = new Object();
+
     private final String path;
     private final String fileName;
     private final String templateKey;
@@ -62,7 +64,7 @@ public class Configuration extends LinkedHashMap<String, Object> {
 
     @Override
     public Object get(Object key) {
-        if (key != null && containsKey(key)) {
+        if (key != null) {
             final Object o = super.get(key);
             if (o != null) {
                 return o;
@@ -157,51 +159,59 @@ public class Configuration extends LinkedHashMap<String, Object> {
     }
 
     private boolean containsNested(String key) {
-        if (key.indexOf('.') == -1) {
-            return false;
-        }
-        final String[] tokens = key.split("\\.");
-        Map<String, Object> map = this;
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            if (!map.containsKey(token)) {
-                return false;
-            } else {
-                final Object o = map.get(token);
-                if (i == tokens.length - 1) {
-                    return true;
-                } else if (o instanceof Map) {
-                    map = (Map<String, Object>) o;
-                } else {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return findNested(key) != MISSING;
     }
 
     private Object getNested(String key) {
+        Object o = findNested(key);
+        return o == MISSING ? null : o;
+    }
+
+    /**
+     * Walks the nested maps one segment of the dotted key at a time.
+     *
+     * @param key The dotted key
+     * @return The nested value or {@link #MISSING} if there is none
+     */
+    private Object findNested(String key) {
         if (key.indexOf('.') == -1) {
+            return MISSING;
+        }
+        int end = lastSegmentEnd(key);
+        if (end == 0) {
             return null;
         }
-        final String[] tokens = key.split("\\.");
-        Map<String, Object> map = this;
-        for (int i = 0; i < tokens.length; i++) {
-            String token = tokens[i];
-            if (!map.containsKey(token)) {
-                return null;
-            } else {
-                final Object o = map.get(token);
-                if (i == tokens.length - 1) {
-                    return o;
-                } else if (o instanceof Map) {
-                    map = (Map<String, Object>) o;
-                } else {
-                    return null;
-                }
+        Object o = this;
+        int start = 0;
+        while (start <= end) {
+            if (!(o instanceof Map)) {
+                return MISSING;
+            }
+            Map<String, Object> map = (Map<String, Object>) o;
+            int dot = key.indexOf('.', start);
+            String token = key.substring(start, dot == -1 || dot > end ? end : dot);
+            o = map.getOrDefault(token, MISSING);
+            if (o == MISSING) {
+                return MISSING;
             }
+            start = dot == -1 || dot > end ? end + 1 : dot + 1;
         }
-        return null;
+        return o;
+    }
+
+    /**
+     * Returns the end of the last non empty segment, mirroring {@link String#split(String)} which drops trailing
+     * empty segments.
+     *
+     * @param key The dotted key
+     * @return The end index or 0 if the key has no non empty segment
+     */
+    private static int lastSegmentEnd(String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end;
     }
 
     public void addCommaSeparatedValue(String key, String value) {
@@ -15,8 +15,10 @@
  */
 package io.micronaut.starter.feature.elasticsearch;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
@@ -24,6 +26,8 @@ import io.micronaut.starter.feature.graalvm.GraalVM;
 
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Elasticsearch implements Feature {
 
@@ -65,6 +69,12 @@ public class Elasticsearch implements Feature {
         }
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
@@ -15,14 +15,18 @@
  */
 package io.micronaut.starter.feature.jib;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.gradle.GradlePlugin;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Jib implements Feature {
 
@@ -61,4 +65,10 @@ public class Jib implements Feature {
                     .build());
         }
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.TEMPLATES, GeneratorFacet.BUILD_PLUGINS);
+    }
 }
@@ -15,13 +15,17 @@
  */
 package io.micronaut.starter.feature.jmx;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Jmx implements Feature {
 
@@ -62,4 +66,10 @@ public class Jmx implements Feature {
                 .artifactId("micronaut-jmx")
                 .compile());
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES);
+    }
 }
@@ -19,6 +19,7 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.feature.FeatureContext;
@@ -29,6 +30,8 @@ import io.micronaut.starter.template.RockerTemplate;
 
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 /**
  * Adds Kubernetes configuration to an application.
  *
@@ -81,6 +84,12 @@ public class Kubernetes implements Feature {
         generatorContext.addTemplate("k8sYaml", new RockerTemplate("k8s.yml", k8sYaml.template(generatorContext.getProject())));
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.TEMPLATES);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return applicationType == ApplicationType.DEFAULT || applicationType == ApplicationType.GRPC;
@@ -18,6 +18,7 @@ package io.micronaut.starter.feature.messaging.kafka;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.Project;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.FeatureContext;
 import io.micronaut.starter.feature.database.TestContainers;
@@ -33,6 +34,8 @@ import io.micronaut.starter.feature.testresources.EaseTestingFeature;
 import io.micronaut.starter.feature.testresources.TestResources;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class KafkaStreams extends EaseTestingFeature implements MessagingFeature, SharedTestResourceFeature {
 
@@ -92,4 +95,10 @@ public class KafkaStreams extends EaseTestingFeature implements MessagingFeature
                 .artifactId("micronaut-kafka-streams")
                 .compile());
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.TEMPLATES, GeneratorFacet.DEPENDENCIES);
+    }
 }
@@ -15,8 +15,10 @@
  */
 package io.micronaut.starter.feature.messaging.rabbitmq;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.database.TestContainers;
 import io.micronaut.starter.feature.messaging.MessagingFeature;
@@ -25,6 +27,8 @@ import io.micronaut.starter.feature.testresources.EaseTestingFeature;
 import io.micronaut.starter.feature.testresources.TestResources;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class RabbitMQ extends EaseTestingFeature implements MessagingFeature, SharedTestResourceFeature {
 
@@ -60,6 +64,12 @@ public class RabbitMQ extends EaseTestingFeature implements MessagingFeature, Sh
                 .compile());
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
@@ -15,8 +15,10 @@
  */
 package io.micronaut.starter.feature.micrometer;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.MicronautDependencyUtils;
 import io.micronaut.starter.feature.Feature;
@@ -24,6 +26,8 @@ import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.feature.database.r2dbc.R2dbcFeature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Core implements Feature {
     private static final Dependency MICRONAUT_MICROMETER_CORE = MicronautDependencyUtils.micrometerDependency()
@@ -66,6 +70,12 @@ public class Core implements Feature {
         }
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
@@ -15,7 +15,9 @@
  */
 package io.micronaut.starter.feature.migration;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.MicronautDependencyUtils;
 import io.micronaut.starter.feature.database.MariaDB;
@@ -29,6 +31,7 @@ import jakarta.inject.Singleton;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Singleton
 public class Flyway implements MigrationFeature {
@@ -91,6 +94,12 @@ public class Flyway implements MigrationFeature {
         generatorContext.getConfiguration().addNested("flyway.datasources.default.enabled", true);
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     protected void addDependencies(GeneratorContext generatorContext) {
         generatorContext.addDependency(MicronautDependencyUtils.flywayDependency()
                 .artifactId(ARTIFACT_ID_MICRONAUT_FLYWAY)
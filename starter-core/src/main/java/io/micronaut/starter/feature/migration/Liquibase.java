@@ -15,13 +15,17 @@
  */
 package io.micronaut.starter.feature.migration;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.migration.template.liquibaseChangelog;
 import io.micronaut.starter.feature.migration.template.liquibaseSchema;
 import io.micronaut.starter.template.RockerTemplate;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Liquibase implements MigrationFeature {
 
@@ -64,4 +68,10 @@ public class Liquibase implements MigrationFeature {
         generatorContext.getConfiguration().addNested(
                 "liquibase.datasources.default.change-log", "classpath:db/liquibase-changelog.xml");
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.TEMPLATES, GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
 }
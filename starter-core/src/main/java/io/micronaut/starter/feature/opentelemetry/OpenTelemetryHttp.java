@@ -17,6 +17,7 @@ package io.micronaut.starter.feature.opentelemetry;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.MicronautDependencyUtils;
 import io.micronaut.starter.feature.other.Management;
@@ -24,6 +25,8 @@ import io.micronaut.starter.feature.server.MicronautServerDependent;
 import io.micronaut.starter.feature.tracing.TracingFeature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class OpenTelemetryHttp implements TracingFeature, MicronautServerDependent {
 
@@ -63,6 +66,12 @@ public class OpenTelemetryHttp implements TracingFeature, MicronautServerDepende
         }
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public String getMicronautDocumentation() {
         return "http://localhost/micronaut-tracing/guide/index.html#opentelemetry";
@@ -18,6 +18,7 @@ package io.micronaut.starter.feature.reactor;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.MicronautDependencyUtils;
 import io.micronaut.starter.feature.FeatureContext;
@@ -25,6 +26,8 @@ import io.micronaut.starter.feature.other.HttpClient;
 import io.micronaut.starter.feature.reactive.ReactiveFeature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Reactor implements ReactiveFeature {
 
@@ -83,4 +86,10 @@ public class Reactor implements ReactiveFeature {
         generatorContext.addDependency(MICRONAUT_REACTOR_DEPENDENCY);
         generatorContext.addDependency(MICROMETER_CONTEXT_PROPOGRATION_DEPENDENCY);
     }
+
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES);
+    }
 }
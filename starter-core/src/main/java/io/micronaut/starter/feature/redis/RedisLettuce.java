@@ -15,14 +15,18 @@
  */
 package io.micronaut.starter.feature.redis;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class RedisLettuce implements Feature {
 
@@ -50,6 +54,12 @@ public class RedisLettuce implements Feature {
                 .compile());
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES, GeneratorFacet.CONFIGURATION);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
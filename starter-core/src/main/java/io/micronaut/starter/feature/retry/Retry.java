@@ -18,12 +18,15 @@ package io.micronaut.starter.feature.retry;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.application.generator.GeneratorContext;
+import io.micronaut.starter.application.generator.GeneratorFacet;
 import io.micronaut.starter.build.dependencies.Dependency;
 import io.micronaut.starter.build.dependencies.MicronautDependencyUtils;
 import io.micronaut.starter.feature.Category;
 import io.micronaut.starter.feature.Feature;
 import jakarta.inject.Singleton;
 
+import java.util.Set;
+
 @Singleton
 public class Retry implements Feature {
 
@@ -55,6 +58,12 @@ public class Retry implements Feature {
         generatorContext.addDependency(DEPENDENCY_RETRY);
     }
 
+    @Override
+    @NonNull
+    public Set<GeneratorFacet> getWriteFacets() {
+        return Set.of(GeneratorFacet.DEPENDENCIES);
+    }
+
     @Override
     public boolean supports(ApplicationType applicationType) {
         return true;
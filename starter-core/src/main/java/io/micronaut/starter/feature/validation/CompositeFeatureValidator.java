@@ -20,6 +20,7 @@ import io.micronaut.starter.application.ApplicationType;
 import io.micronaut.starter.feature.Feature;
 import io.micronaut.starter.options.Options;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Set;
@@ -29,22 +30,44 @@ import java.util.Set;
 public class CompositeFeatureValidator implements FeatureValidator {
 
     private final List<FeatureValidator> featureValidators;
+    private final FeatureCompatibility compatibility;
 
     public CompositeFeatureValidator(List<FeatureValidator> featureValidators) {
+        this(featureValidators, new FeatureCompatibility());
+    }
+
+    /**
+     * @param featureValidators The validators
+     * @param compatibility The compatibility model of the available features
+     * @since 4.5.1
+     */
+    @Inject
+    public CompositeFeatureValidator(List<FeatureValidator> featureValidators, FeatureCompatibility compatibility) {
         this.featureValidators = featureValidators;
+        this.compatibility = compatibility;
     }
 
     @Override
     public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+        validatePreProcessing(options, applicationType, features, compatibility.summarize(features));
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+        validatePostProcessing(options, applicationType, features, compatibility.summarize(features));
+    }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
         for (FeatureValidator featureValidator: featureValidators) {
-            featureValidator.validatePreProcessing(options, applicationType, features);
+            featureValidator.validatePreProcessing(options, applicationType, features, summary);
         }
     }
 
     @Override
-    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
         for (FeatureValidator featureValidator: featureValidators) {
-            featureValidator.validatePostProcessing(options, applicationType, features);
+            featureValidator.validatePostProcessing(options, applicationType, features, summary);
         }
     }
 
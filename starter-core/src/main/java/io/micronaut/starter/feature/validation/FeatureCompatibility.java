@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.feature.validation;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.feature.Feature;
+import io.micronaut.starter.feature.GradleSpecificFeature;
+import io.micronaut.starter.feature.LanguageSpecificFeature;
+import io.micronaut.starter.feature.MavenSpecificFeature;
+import io.micronaut.starter.feature.MinJdkFeature;
+import io.micronaut.starter.feature.OneOfFeature;
+import io.micronaut.starter.options.JdkVersion;
+import io.micronaut.starter.options.Language;
+import io.micronaut.starter.options.Options;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compatibility model of the available features, built once at startup. Every one-of group gets a bit and every
+ * feature is reduced to the groups it belongs to, the languages it requires, the build tool it is specific to and
+ * the minimum JDK it needs. The validators then check a selection with a few bitwise operations and only fall back
+ * to scanning the selection to report a conflict.
+ *
+ * <p>Up to 64 one-of groups are encoded. Features which are not part of the model, or which belong to a group that is
+ * not encoded, are reduced when they are validated and report {@link Summary#hasUnknownGroup()}.</p>
+ *
+ * @since 4.5.1
+ */
+@Singleton
+public class FeatureCompatibility {
+
+    private static final int NULL_LANGUAGE = 1 << Language.values().length;
+
+    private final List<Class<?>> groups;
+    private final Map<Feature, Traits> traits;
+
+    /**
+     * An empty model, every feature is reduced when it is validated.
+     */
+    public FeatureCompatibility() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param features The available features
+     */
+    @Inject
+    public FeatureCompatibility(@NonNull List<Feature> features) {
+        Set<Class<?>> groupClasses = new LinkedHashSet<>();
+        for (Feature feature : features) {
+            if (feature instanceof OneOfFeature oneOf && groupClasses.size() < Long.SIZE) {
+                groupClasses.add(oneOf.getFeatureClass());
+            }
+        }
+        this.groups = new ArrayList<>(groupClasses);
+        Map<Feature, Traits> reduced = new IdentityHashMap<>(features.size() * 2);
+        for (Feature feature : features) {
+            reduced.put(feature, reduce(feature));
+        }
+        this.traits = reduced;
+    }
+
+    /**
+     * Combines the traits of the selected features.
+     *
+     * @param features The selected features
+     * @return The summary of the selection
+     */
+    @NonNull
+    public Summary summarize(@NonNull Collection<Feature> features) {
+        long seenGroups = 0;
+        long conflictingGroups = 0;
+        long selectedGroups = 0;
+        int languages = 0;
+        boolean unknownGroup = false;
+        boolean gradleSpecific = false;
+        boolean mavenSpecific = false;
+        JdkVersion minJdk = null;
+        for (Feature feature : features) {
+            Traits t = traits.get(feature);
+            if (t == null) {
+                t = reduce(feature);
+            }
+            conflictingGroups |= seenGroups & t.groups;
+            seenGroups |= t.groups;
+            selectedGroups |= t.ownGroup;
+            unknownGroup |= t.unknownGroup;
+            languages |= t.languages;
+            gradleSpecific |= t.gradleSpecific;
+            mavenSpecific |= t.mavenSpecific;
+            if (t.minJdk != null && (minJdk == null || !minJdk.greaterThanEqual(t.minJdk))) {
+                minJdk = t.minJdk;
+            }
+        }
+        return new Summary(conflictingGroups & selectedGroups, unknownGroup, languages, gradleSpecific, mavenSpecific, minJdk);
+    }
+
+    private Traits reduce(Feature feature) {
+        long memberOf = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.get(i).isAssignableFrom(feature.getClass())) {
+                memberOf |= 1L << i;
+            }
+        }
+        long ownGroup = 0;
+        boolean unknownGroup = false;
+        if (feature instanceof OneOfFeature oneOf) {
+            int index = groups.indexOf(oneOf.getFeatureClass());
+            if (index == -1) {
+                unknownGroup = true;
+            } else {
+                ownGroup = 1L << index;
+            }
+        }
+        int languages = 0;
+        if (feature instanceof LanguageSpecificFeature languageSpecific) {
+            Language language = languageSpecific.getRequiredLanguage();
+            languages = language == null ? NULL_LANGUAGE : 1 << language.ordinal();
+        }
+        return new Traits(memberOf,
+                ownGroup,
+                unknownGroup,
+                languages,
+                feature instanceof GradleSpecificFeature,
+                feature instanceof MavenSpecificFeature,
+                feature instanceof MinJdkFeature minJdkFeature ? minJdkFeature.minJdk() : null);
+    }
+
+    /**
+     * The reduced constraints of a feature.
+     */
+    private record Traits(long groups,
+                          long ownGroup,
+                          boolean unknownGroup,
+                          int languages,
+                          boolean gradleSpecific,
+                          boolean mavenSpecific,
+                          JdkVersion minJdk) {
+    }
+
+    /**
+     * The combined constraints of a selection of features.
+     *
+     * @param conflictingGroups The one-of groups selected by a feature which more than one selected feature belongs to
+     * @param hasUnknownGroup Whether a selected one-of feature has a group which is not encoded
+     * @param languages The languages required by the selected features, one bit per {@link Language#ordinal()}
+     * @param gradleSpecific Whether a Gradle specific feature is selected
+     * @param mavenSpecific Whether a Maven specific feature is selected
+     * @param minJdk The highest minimum JDK required by the selected features, if any
+     */
+    public record Summary(long conflictingGroups,
+                          boolean hasUnknownGroup,
+                          int languages,
+                          boolean gradleSpecific,
+                          boolean mavenSpecific,
+                          JdkVersion minJdk) {
+
+        /**
+         * @return Whether the one-of groups may be violated, in which case the selection must be scanned
+         */
+        public boolean mayViolateOneOf() {
+            return conflictingGroups != 0 || hasUnknownGroup;
+        }
+
+        /**
+         * @param options The selected options, if any
+         * @return Whether the required languages conflict with each other or with the selected language
+         */
+        public boolean mayViolateLanguage(@Nullable Options options) {
+            if (languages == 0 || languages == NULL_LANGUAGE) {
+                return false;
+            }
+            if (Integer.bitCount(languages) > 1) {
+                return true;
+            }
+            if (options == null) {
+                return false;
+            }
+            Language language = options.getLanguage();
+            return language == null || languages != 1 << language.ordinal();
+        }
+
+        /**
+         * @param jdk The selected JDK
+         * @return Whether a selected feature requires a newer JDK
+         */
+        public boolean mayViolateMinJdk(@NonNull JdkVersion jdk) {
+            return minJdk != null && !jdk.greaterThanEqual(minJdk);
+        }
+    }
+}
@@ -26,4 +26,32 @@ public interface FeatureValidator {
     void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features);
 
     void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features);
+
+    /**
+     * Validates the features before they are processed, given the summary of their constraints computed once for all
+     * the validators. Validators which can rule out a violation from the summary skip scanning the features.
+     *
+     * @param options The options
+     * @param applicationType The application type
+     * @param features The features
+     * @param summary The summary of the constraints of the features
+     * @since 4.5.1
+     */
+    default void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        validatePreProcessing(options, applicationType, features);
+    }
+
+    /**
+     * Validates the features after they are processed, given the summary of their constraints computed once for all
+     * the validators. Validators which can rule out a violation from the summary skip scanning the features.
+     *
+     * @param options The options
+     * @param applicationType The application type
+     * @param features The features
+     * @param summary The summary of the constraints of the features
+     * @since 4.5.1
+     */
+    default void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        validatePostProcessing(options, applicationType, features);
+    }
 }
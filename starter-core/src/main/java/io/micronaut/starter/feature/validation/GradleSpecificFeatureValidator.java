@@ -36,4 +36,11 @@ public class GradleSpecificFeatureValidator implements FeatureValidator {
             throw new IllegalArgumentException("Feature only supported by Gradle");
         }
     }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.gradleSpecific() && !options.getBuildTool().isGradle()) {
+            throw new IllegalArgumentException("Feature only supported by Gradle");
+        }
+    }
 }
@@ -37,4 +37,11 @@ public class MavenSpecificFeatureValidator implements FeatureValidator {
             throw new IllegalArgumentException("Feature only supported by Maven");
         }
     }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.mavenSpecific() && options.getBuildTool() != BuildTool.MAVEN) {
+            throw new IllegalArgumentException("Feature only supported by Maven");
+        }
+    }
 }
@@ -44,4 +44,11 @@ public class MinJdkFeatureValidator implements FeatureValidator {
     public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
 
     }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.mayViolateMinJdk(options.getJavaVersion())) {
+            validatePreProcessing(options, applicationType, features);
+        }
+    }
 }
@@ -55,4 +55,18 @@ public class OneOfFeatureValidator implements FeatureValidator {
     public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
         validate(features);
     }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.mayViolateOneOf()) {
+            validate(features);
+        }
+    }
+
+    @Override
+    public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.mayViolateOneOf()) {
+            validate(features);
+        }
+    }
 }
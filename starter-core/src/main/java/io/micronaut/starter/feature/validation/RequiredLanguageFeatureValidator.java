@@ -67,4 +67,11 @@ public class RequiredLanguageFeatureValidator implements FeatureValidator {
     public void validatePostProcessing(Options options, ApplicationType applicationType, Set<Feature> features) {
 
     }
+
+    @Override
+    public void validatePreProcessing(Options options, ApplicationType applicationType, Set<Feature> features, FeatureCompatibility.Summary summary) {
+        if (summary.mayViolateLanguage(options)) {
+            validatePreProcessing(options, applicationType, features);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.starter.util.HashUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The immutable contents of a generated file, identified by a 64-bit hash of its bytes. Blobs interned by a
+ * {@link BlobStore} are shared, so equal contents are usually the same instance and compare in constant time.
+ *
+ * @since 4.5.1
+ */
+public final class Blob {
+
+    private final byte[] bytes;
+    private long hash;
+    private volatile boolean hashed;
+
+    Blob(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return The 64-bit FNV-1a hash of the contents, computed on first use
+     */
+    public long getHash() {
+        if (!hashed) {
+            hash = HashUtils.fnv1a(bytes);
+            hashed = true;
+        }
+        return hash;
+    }
+
+    /**
+     * @return The number of bytes
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    /**
+     * @return A stream of the contents
+     */
+    @NonNull
+    public InputStream openStream() {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Writes the contents.
+     *
+     * @param outputStream The output stream
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(@NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(bytes);
+    }
+
+    /**
+     * @return The contents decoded as UTF-8
+     */
+    @NonNull
+    public String asString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Blob blob)) {
+            return false;
+        }
+        return getHash() == blob.getHash() && Arrays.equals(bytes, blob.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(getHash());
+    }
+
+    @Override
+    public String toString() {
+        return "Blob{size=" + bytes.length + ", hash=" + Long.toHexString(getHash()) + "}";
+    }
+}
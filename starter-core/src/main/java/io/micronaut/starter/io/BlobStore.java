@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Interns the contents of generated files, so that the projects held in memory share a single {@link Blob} for
+ * every distinct content. Blobs are weakly referenced and disappear once no project refers to them. The blobs are
+ * spread over independently locked stripes by their hash, so concurrent generations rarely wait for each other.
+ *
+ * @since 4.5.1
+ */
+public final class BlobStore {
+
+    private static final int STRIPES = 16;
+
+    private final List<Map<Blob, WeakReference<Blob>>> stripes = new ArrayList<>(STRIPES);
+
+    public BlobStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * Returns the blob interned with the same contents as the given blob, interning the given blob if there is none.
+     *
+     * @param candidate The blob
+     * @return The interned blob
+     */
+    @NonNull
+    public Blob intern(@NonNull Blob candidate) {
+        Map<Blob, WeakReference<Blob>> blobs = stripes.get(candidate.hashCode() & (STRIPES - 1));
+        synchronized (blobs) {
+            WeakReference<Blob> reference = blobs.get(candidate);
+            Blob blob = reference == null ? null : reference.get();
+            if (blob != null) {
+                return blob;
+            }
+            blobs.put(candidate, new WeakReference<>(candidate));
+            return candidate;
+        }
+    }
+
+    /**
+     * @return The number of distinct contents currently interned
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Blob, WeakReference<Blob>> blobs : stripes) {
+            synchronized (blobs) {
+                size += blobs.size();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.core.annotation.NonNull;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of {@link PooledBuffer buffers} templates are rendered into. Idle buffers are kept up to the
+ * configured count, buffers which grew past the configured size are discarded on release so that a single large
+ * template does not pin memory.
+ *
+ * <p>The utilization statistics are meant to size the pool for the heap: a low {@link #getReused() reuse} count
+ * compared to {@link #getAllocated() allocations} means the pool is too small.</p>
+ *
+ * @since 4.5.1
+ */
+@Singleton
+public class BufferPool {
+
+    private final BufferPoolConfiguration configuration;
+    private final BlockingQueue<PooledBuffer> idle;
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicLong idleBytes = new AtomicLong();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * A disabled pool.
+     */
+    public BufferPool() {
+        this(new BufferPoolConfiguration());
+    }
+
+    /**
+     * @param configuration The pool configuration
+     */
+    @Inject
+    public BufferPool(BufferPoolConfiguration configuration) {
+        this.configuration = configuration;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, configuration.getMaxBuffers()));
+    }
+
+    /**
+     * @return Whether templates are rendered into pooled buffers
+     */
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    /**
+     * Takes an idle buffer from the pool or allocates a new one. The buffer must be {@link PooledBuffer#release() released}
+     * once its contents have been written.
+     *
+     * @return An empty buffer
+     */
+    @NonNull
+    public PooledBuffer acquire() {
+        inUse.incrementAndGet();
+        PooledBuffer buffer = idle.poll();
+        if (buffer != null) {
+            idleBytes.addAndGet(-buffer.capacity());
+            reused.increment();
+            buffer.reset();
+            return buffer;
+        }
+        allocated.increment();
+        return new PooledBuffer(this, configuration.getInitialBufferSize());
+    }
+
+    void release(PooledBuffer buffer) {
+        inUse.decrementAndGet();
+        int capacity = buffer.capacity();
+        if (capacity <= configuration.getMaxBufferSize() && idle.offer(buffer)) {
+            idleBytes.addAndGet(capacity);
+        } else {
+            discarded.increment();
+        }
+    }
+
+    /**
+     * @return The number of buffers currently acquired and not yet released
+     */
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    /**
+     * @return The number of idle buffers in the pool
+     */
+    public int getIdle() {
+        return idle.size();
+    }
+
+    /**
+     * @return The number of bytes held by idle buffers
+     */
+    public long getIdleBytes() {
+        return idleBytes.get();
+    }
+
+    /**
+     * @return The number of buffers allocated because the pool was empty
+     */
+    public long getAllocated() {
+        return allocated.sum();
+    }
+
+    /**
+     * @return The number of acquisitions served by an idle buffer
+     */
+    public long getReused() {
+        return reused.sum();
+    }
+
+    /**
+     * @return The number of released buffers dropped because the pool was full or they were too large
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+}
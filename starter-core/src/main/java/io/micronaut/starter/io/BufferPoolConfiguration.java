@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Configures the pool of buffers templates are rendered into.
+ *
+ * @since 4.5.1
+ */
+@ConfigurationProperties(BufferPoolConfiguration.PREFIX)
+public class BufferPoolConfiguration {
+    public static final String PREFIX = "micronaut.starter.buffer-pool";
+
+    public static final int DEFAULT_MAX_BUFFERS = 64;
+
+    public static final int DEFAULT_INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private boolean enabled;
+    private int maxBuffers = DEFAULT_MAX_BUFFERS;
+    private int initialBufferSize = DEFAULT_INITIAL_BUFFER_SIZE;
+    private int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+
+    /**
+     * Rendering into a pooled buffer is not zero-copy: the contents are copied once into the buffer, which is then
+     * written to the output in a single call instead of the many small writes of a template streamed to the output.
+     *
+     * @return Whether templates are rendered into pooled buffers before being written to the output. Defaults to false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether templates are rendered into pooled buffers
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of idle buffers kept in the pool
+     */
+    public int getMaxBuffers() {
+        return maxBuffers;
+    }
+
+    /**
+     * @param maxBuffers The maximum number of idle buffers kept in the pool
+     */
+    public void setMaxBuffers(int maxBuffers) {
+        this.maxBuffers = maxBuffers;
+    }
+
+    /**
+     * @return The size in bytes of newly allocated buffers
+     */
+    public int getInitialBufferSize() {
+        return initialBufferSize;
+    }
+
+    /**
+     * @param initialBufferSize The size in bytes of newly allocated buffers
+     */
+    public void setInitialBufferSize(int initialBufferSize) {
+        this.initialBufferSize = initialBufferSize;
+    }
+
+    /**
+     * @return The capacity in bytes above which a released buffer is discarded instead of being returned to the pool
+     */
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * @param maxBufferSize The capacity in bytes above which a released buffer is discarded
+     */
+    public void setMaxBufferSize(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+}
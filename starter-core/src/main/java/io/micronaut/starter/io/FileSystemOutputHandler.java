@@ -19,18 +19,52 @@ import io.micronaut.starter.application.Project;
 import io.micronaut.starter.template.Template;
 import io.micronaut.starter.template.Writable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 public class FileSystemOutputHandler implements OutputHandler {
 
     File applicationDirectory;
     private final ConsoleOutput console;
+    private final FileWriteStrategy writeStrategy;
+    private final ExecutorService executor;
+    private final Map<Path, Boolean> createdDirectories = new ConcurrentHashMap<>();
+    private final Map<Path, CompletableFuture<Void>> pendingWrites = new HashMap<>();
+    private File stagingDirectory;
+    private boolean closed;
 
     public FileSystemOutputHandler(Project project, boolean inplace, ConsoleOutput console) throws IOException {
+        this(project, inplace, console, FileWriteStrategy.DEFAULT);
+    }
+
+    /**
+     * @param project The project
+     * @param inplace Whether the project is generated in the current directory
+     * @param console The console output
+     * @param writeStrategy How files are written
+     * @throws IOException If the base directory cannot be resolved
+     * @since 4.5.1
+     */
+    public FileSystemOutputHandler(Project project, boolean inplace, ConsoleOutput console, FileWriteStrategy writeStrategy) throws IOException {
         this.console = console;
         File baseDirectory = getDefaultBaseDirectory();
         if (inplace) {
@@ -41,11 +75,25 @@ public class FileSystemOutputHandler implements OutputHandler {
         if (applicationDirectory.exists() && !inplace) {
             throw new IllegalArgumentException("Cannot create the project because the target directory already exists");
         }
+        this.writeStrategy = writeStrategy;
+        this.executor = createExecutor(writeStrategy);
     }
 
     public FileSystemOutputHandler(File directory, ConsoleOutput console) throws IOException {
+        this(directory, console, FileWriteStrategy.DEFAULT);
+    }
+
+    /**
+     * @param directory The directory files are written to
+     * @param console The console output
+     * @param writeStrategy How files are written
+     * @since 4.5.1
+     */
+    public FileSystemOutputHandler(File directory, ConsoleOutput console, FileWriteStrategy writeStrategy) {
         this.console = console;
         this.applicationDirectory = directory;
+        this.writeStrategy = writeStrategy;
+        this.executor = createExecutor(writeStrategy);
     }
 
     /**
@@ -71,45 +119,245 @@ public class FileSystemOutputHandler implements OutputHandler {
 
     @Override
     public boolean exists(String path) {
-        return new File(applicationDirectory, path).exists();
+        File file = resolve(path);
+        if (executor != null) {
+            synchronized (pendingWrites) {
+                if (pendingWrites.containsKey(file.toPath())) {
+                    return true;
+                }
+            }
+        }
+        return file.exists();
     }
 
     @Override
     public void write(String path, Template contents) throws IOException {
-        File targetFile = write(path, (Writable) contents);
-
-        if (contents.isExecutable()) {
-            if (!targetFile.setExecutable(true, true)) {
-                console.warning("Failed to set " + path + " to be executable");
-            }
-        }
+        write(path, contents, false, contents.isExecutable());
     }
 
     public File write(String path, Writable contents) throws IOException {
         return write(path, contents, false);
     }
 
+    /**
+     * Writes a file. Files written by the I/O executor may not exist yet when this method returns, and staged files
+     * are only moved to the application directory when the handler is closed.
+     *
+     * @param path The path of the file, relative to the application directory
+     * @param contents The contents
+     * @param append Whether the contents are appended to an existing file
+     * @return The file written to
+     * @throws IOException If the file cannot be written
+     */
     public File write(String path, Writable contents, boolean append) throws IOException {
-        if ('/' != File.separatorChar) {
-            path = path.replace('/', File.separatorChar);
-        }
-        File targetFile = new File(applicationDirectory, path);
-        targetFile.getParentFile().mkdirs();
-        if (!append) {
-            boolean created = targetFile.createNewFile();
-            if (!created) {
-                targetFile.delete();
-                targetFile.createNewFile();
+        return write(path, contents, append, false);
+    }
+
+    @Override
+    public void abort() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            awaitPendingWrites();
+        } finally {
+            shutdown();
+            if (stagingDirectory != null) {
+                delete(stagingDirectory.toPath());
             }
         }
-        try (OutputStream os = Files.newOutputStream(targetFile.toPath(), append ? StandardOpenOption.APPEND : StandardOpenOption.CREATE)) {
-            contents.write(os);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            awaitPendingWrites();
+            if (stagingDirectory != null) {
+                moveStagedFiles();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (stagingDirectory != null) {
+                delete(stagingDirectory.toPath());
+            }
+            throw e;
+        } finally {
+            shutdown();
+        }
+    }
+
+    private File write(String path, Writable contents, boolean append, boolean executable) throws IOException {
+        File targetFile = resolve(path);
+        if (executor == null) {
+            writeFile(path, targetFile, contents, append, executable);
+        } else {
+            // the contents may be backed by a buffer which is reused once this method returns
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+            contents.write(buffer);
+            byte[] bytes = buffer.toByteArray();
+            schedule(targetFile.toPath(), () -> writeFile(path, targetFile, outputStream -> outputStream.write(bytes), append, executable));
         }
         return targetFile;
     }
 
-    @Override
-    public void close() {
+    private File resolve(String path) {
+        String relativePath = '/' != File.separatorChar ? path.replace('/', File.separatorChar) : path;
+        return new File(targetDirectory(), relativePath);
+    }
+
+    private synchronized File targetDirectory() {
+        if (writeStrategy.isStaged() && stagingDirectory == null && !applicationDirectory.exists()) {
+            // staged next to the application directory, so that it is moved within the same file system
+            try {
+                Path parent = applicationDirectory.getAbsoluteFile().getParentFile().toPath();
+                Files.createDirectories(parent);
+                stagingDirectory = createStagingDirectory(parent).toFile();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create the staging directory for " + applicationDirectory, e);
+            }
+        }
+        return stagingDirectory != null ? stagingDirectory : applicationDirectory;
+    }
+
+    /**
+     * Creates the staging directory with the default permissions, rather than the owner only permissions of a temporary
+     * directory, as it becomes the application directory once moved.
+     *
+     * @param parent The parent of the application directory
+     * @return The staging directory
+     * @throws IOException If the directory cannot be created
+     */
+    private Path createStagingDirectory(Path parent) throws IOException {
+        while (true) {
+            Path candidate = parent.resolve("." + applicationDirectory.getName() + "-" + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()));
+            try {
+                return Files.createDirectory(candidate);
+            } catch (FileAlreadyExistsException e) {
+                // taken by a concurrent generation, try another name
+            }
+        }
+    }
+
+    /**
+     * Writes a file, creating its directory the first time a file is written to it.
+     *
+     * @param path The path of the file, relative to the application directory
+     * @param targetFile The file
+     * @param contents The contents
+     * @param append Whether the contents are appended to an existing file
+     * @param executable Whether the file is made executable
+     * @throws IOException If the file cannot be written
+     */
+    private void writeFile(String path, File targetFile, Writable contents, boolean append, boolean executable) throws IOException {
+        Path file = targetFile.toPath();
+        Path directory = file.getParent();
+        if (directory != null) {
+            createdDirectories.computeIfAbsent(directory, this::createDirectories);
+        }
+        try (OutputStream os = append ? Files.newOutputStream(file, StandardOpenOption.APPEND) : Files.newOutputStream(file)) {
+            contents.write(os);
+        }
+        if (executable && !targetFile.setExecutable(true, true)) {
+            console.warning("Failed to set " + path + " to be executable");
+        }
+    }
+
+    private Boolean createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            return Boolean.TRUE;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Queues a write to the I/O executor. Writes to the same file run in the order they are queued.
+     *
+     * @param file The file written to
+     * @param write The write
+     */
+    private void schedule(Path file, IOAction write) {
+        Runnable task = () -> {
+            try {
+                write.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        synchronized (pendingWrites) {
+            CompletableFuture<Void> previous = pendingWrites.get(file);
+            pendingWrites.put(file, previous == null ? CompletableFuture.runAsync(task, executor) : previous.thenRunAsync(task, executor));
+        }
+    }
+
+    private void awaitPendingWrites() throws IOException {
+        if (executor == null) {
+            return;
+        }
+        CompletableFuture<?>[] writes;
+        synchronized (pendingWrites) {
+            writes = pendingWrites.values().toArray(new CompletableFuture<?>[0]);
+            pendingWrites.clear();
+        }
+        try {
+            CompletableFuture.allOf(writes).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw new IOException("Failed to write the project files", cause);
+        }
+    }
+
+    private void moveStagedFiles() throws IOException {
+        Path source = stagingDirectory.toPath();
+        Path target = applicationDirectory.toPath();
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target);
+        }
+        stagingDirectory = null;
+    }
+
+    private void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
 
+    private static ExecutorService createExecutor(FileWriteStrategy writeStrategy) {
+        if (!writeStrategy.isAsync()) {
+            return null;
+        }
+        return Executors.newFixedThreadPool(writeStrategy.getIoThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "file-system-output");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * An I/O operation queued to the executor.
+     */
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
     }
 }
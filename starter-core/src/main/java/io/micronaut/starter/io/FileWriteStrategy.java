@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+/**
+ * Decides how {@link FileSystemOutputHandler} writes files: on the generating thread or queued to a small I/O
+ * executor, and straight into the target directory or staged in a temporary directory which is moved to the target
+ * once every file has been written. Staging only applies to directories which do not exist yet.
+ *
+ * @since 4.5.1
+ */
+public final class FileWriteStrategy {
+
+    /**
+     * Writes every file on the generating thread straight into the target directory.
+     */
+    public static final FileWriteStrategy DEFAULT = new FileWriteStrategy(0, false);
+
+    /**
+     * Queues files to two I/O threads and stages new projects, so that a failed generation leaves no directory behind.
+     */
+    public static final FileWriteStrategy BATCHED = new FileWriteStrategy(2, true);
+
+    private final int ioThreads;
+    private final boolean staged;
+
+    /**
+     * @param ioThreads The number of threads writing files. Values lower than 1 write files on the generating thread.
+     * @param staged Whether files are staged in a temporary directory, moved to the target directory when the handler is closed
+     */
+    public FileWriteStrategy(int ioThreads, boolean staged) {
+        this.ioThreads = ioThreads;
+        this.staged = staged;
+    }
+
+    /**
+     * @return The number of threads writing files
+     */
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * @return Whether files are written by an I/O executor
+     */
+    public boolean isAsync() {
+        return ioThreads > 0;
+    }
+
+    /**
+     * @return Whether files are staged in a temporary directory
+     */
+    public boolean isStaged() {
+        return staged;
+    }
+}
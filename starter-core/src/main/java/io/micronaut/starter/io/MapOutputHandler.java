@@ -15,35 +15,69 @@
  */
 package io.micronaut.starter.io;
 
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.starter.template.Template;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 public class MapOutputHandler implements OutputHandler {
 
     private final Map<String, String> templates;
+    private final Map<String, Blob> files;
+    private final Set<String> binaryPaths = new HashSet<>();
+    private final BlobStore blobStore;
+    // reused for every file, the contents are copied into their string or blob
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
 
     public MapOutputHandler() {
-        templates = new LinkedHashMap<>(16);
+        this(null);
+    }
+
+    /**
+     * Without a blob store, only the text of the files is kept and binary files are not read, as for a preview.
+     * With a blob store, the contents of every file, binary or not, are kept as blobs interned by the store.
+     *
+     * @param blobStore The store interning the contents of the files or null to keep the text of the files only
+     * @since 4.5.1
+     */
+    public MapOutputHandler(@Nullable BlobStore blobStore) {
+        this.templates = new LinkedHashMap<>(16);
+        this.files = new LinkedHashMap<>(blobStore == null ? 0 : 16);
+        this.blobStore = blobStore;
     }
 
     @Override
     public boolean exists(String path) {
-        return templates.containsKey(path);
+        return blobStore == null ? templates.containsKey(path) : files.containsKey(path);
     }
 
     @Override
     public void write(String path, Template contents) throws IOException {
         if (contents.isBinary()) {
-            templates.put(path, null);
+            binaryPaths.add(path);
         } else {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            contents.write(out);
-            templates.put(path, out.toString(StandardCharsets.UTF_8.name()));
+            binaryPaths.remove(path);
+        }
+        if (blobStore == null) {
+            if (contents.isBinary()) {
+                templates.put(path, null);
+            } else {
+                buffer.reset();
+                contents.write(buffer);
+                templates.put(path, buffer.toString(StandardCharsets.UTF_8));
+            }
+        } else {
+            buffer.reset();
+            contents.write(buffer);
+            files.put(path, blobStore.intern(new Blob(buffer.toByteArray())));
         }
     }
 
@@ -55,7 +89,33 @@ public class MapOutputHandler implements OutputHandler {
     @Override
     public void close() throws IOException { }
 
+    /**
+     * @return The text of the files by path, binary files being mapped to null
+     */
     public Map<String, String> getProject() {
-        return templates;
+        if (blobStore == null) {
+            return templates;
+        }
+        Map<String, String> project = new LinkedHashMap<>(files.size() * 2);
+        files.forEach((path, blob) -> project.put(path, binaryPaths.contains(path) ? null : blob.asString()));
+        return project;
+    }
+
+    /**
+     * @return The contents of the files by path, including binary files, or an empty map without a blob store
+     * @since 4.5.1
+     */
+    @NonNull
+    public Map<String, Blob> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    /**
+     * @param path The path of a file
+     * @return Whether the file was written from a binary template
+     * @since 4.5.1
+     */
+    public boolean isBinary(String path) {
+        return binaryPaths.contains(path);
     }
 }
@@ -28,4 +28,15 @@ public interface OutputHandler extends Closeable {
 
     String getOutputLocation();
 
+    /**
+     * Called when the generation fails, before the handler is closed. Handlers which stage their output discard it
+     * rather than publishing a partially written project.
+     *
+     * @throws IOException If the staged output cannot be discarded
+     * @since 4.5.1
+     */
+    default void abort() throws IOException {
+        // nothing is staged by default
+    }
+
 }
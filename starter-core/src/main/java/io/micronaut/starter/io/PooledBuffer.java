@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable, unsynchronized in-memory output stream which is returned to its {@link BufferPool} once released.
+ * The backing array is exposed so the contents can be handed to another stream without copying.
+ *
+ * @since 4.5.1
+ */
+public final class PooledBuffer extends OutputStream {
+
+    private final BufferPool pool;
+    private byte[] buffer;
+    private int count;
+    private boolean released;
+
+    PooledBuffer(BufferPool pool, int initialSize) {
+        this.pool = pool;
+        this.buffer = new byte[initialSize];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Writes the contents of this buffer to the given stream.
+     *
+     * @param outputStream The output stream
+     * @throws IOException If the contents cannot be written
+     */
+    public void writeTo(@NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, count);
+    }
+
+    /**
+     * @return The backing array, only the first {@link #size()} bytes of it are valid
+     */
+    @NonNull
+    public byte[] array() {
+        return buffer;
+    }
+
+    /**
+     * @return The number of bytes written
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return The capacity of the backing array
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns this buffer to its pool. The buffer must not be used afterwards. Releasing a buffer more than once
+     * has no effect.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            pool.release(this);
+        }
+    }
+
+    /**
+     * Prepares the buffer to be handed out again.
+     */
+    void reset() {
+        count = 0;
+        released = false;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
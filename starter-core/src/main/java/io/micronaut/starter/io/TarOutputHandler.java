@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.airlift.compress.zstd.ZstdOutputStream;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.starter.template.PrecompressedTemplate;
+import io.micronaut.starter.template.RenderedTemplate;
+import io.micronaut.starter.template.Template;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a project to a single compressed tar stream. Unlike a ZIP archive, which compresses every entry on its
+ * own, the whole stream is compressed at once, so the many similar files of a project compress against each other.
+ *
+ * @since 4.5.1
+ */
+public class TarOutputHandler implements OutputHandler {
+
+    private static final int FILE_MODE = 0100644;
+    private static final int EXECUTABLE_MODE = 0100755;
+
+    private final TarArchiveOutputStream tarOutputStream;
+    private final String directory;
+
+    /**
+     * @param projectName The name of the directory the entries are written to or null to write them at the root
+     * @param outputStream The output stream
+     * @param compression The compression of the stream
+     * @throws IOException If the compressed stream cannot be opened
+     */
+    public TarOutputHandler(@Nullable String projectName, @NonNull OutputStream outputStream, @NonNull Compression compression) throws IOException {
+        this.tarOutputStream = new TarArchiveOutputStream(compression.wrap(outputStream), StandardCharsets.UTF_8.name());
+        this.tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        this.tarOutputStream.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        this.directory = projectName;
+    }
+
+    @Override
+    public String getOutputLocation() {
+        return null;
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return false;
+    }
+
+    @Override
+    public void write(String path, Template contents) throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(directory != null ? StringUtils.prependUri(directory, path) : path);
+        entry.setMode(contents.isExecutable() ? EXECUTABLE_MODE : FILE_MODE);
+        // tar headers hold the size of the entry, so the contents must be in memory first
+        Template rendered;
+        if (contents instanceof PrecompressedTemplate precompressed) {
+            entry.setSize(precompressed.getContents().getSize());
+            rendered = contents;
+        } else {
+            RenderedTemplate renderedTemplate = contents instanceof RenderedTemplate r ? r : RenderedTemplate.render(contents);
+            entry.setSize(renderedTemplate.getLength());
+            rendered = renderedTemplate;
+        }
+        tarOutputStream.putArchiveEntry(entry);
+        rendered.write(tarOutputStream);
+        tarOutputStream.closeArchiveEntry();
+    }
+
+    @Override
+    public void close() throws IOException {
+        tarOutputStream.finish();
+        tarOutputStream.close();
+    }
+
+    /**
+     * The compression of the tar stream.
+     */
+    public enum Compression {
+        GZIP,
+        ZSTD;
+
+        private OutputStream wrap(OutputStream outputStream) throws IOException {
+            if (this == ZSTD) {
+                return new ZstdOutputStream(outputStream);
+            }
+            GzipParameters parameters = new GzipParameters();
+            parameters.setCompressionLevel(Deflater.BEST_COMPRESSION);
+            return new GzipCompressorOutputStream(outputStream, parameters);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.io;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Decides how the entries of a generated ZIP archive are compressed: the deflate level, the entries stored without
+ * compression by extension or by size, and whether entries are compressed concurrently.
+ *
+ * @since 4.5.1
+ */
+public final class ZipCompressionPolicy {
+
+    /**
+     * Deflates every entry with the default level on the writing thread.
+     */
+    public static final ZipCompressionPolicy DEFAULT = new ZipCompressionPolicy(Deflater.DEFAULT_COMPRESSION, Collections.emptyMap(), 0, 1);
+
+    private final int level;
+    private final Map<String, Method> rules;
+    private final long storedThreshold;
+    private final int parallelism;
+
+    /**
+     * @param level The deflate level, from 0 to 9 or -1 for the default level
+     * @param rules The compression method of the entries by file extension, without the leading dot
+     * @param storedThreshold The size in bytes below which entries of a known size are stored
+     * @param parallelism The number of threads compressing entries. Values lower than 2 compress entries on the writing thread.
+     */
+    public ZipCompressionPolicy(int level, @Nullable Map<String, Method> rules, long storedThreshold, int parallelism) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.level = level;
+        Map<String, Method> normalized = new LinkedHashMap<>();
+        if (rules != null) {
+            rules.forEach((extension, method) -> normalized.put(normalize(extension), method));
+        }
+        this.rules = Collections.unmodifiableMap(normalized);
+        this.storedThreshold = storedThreshold;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return The deflate level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return The compression method of the entries by file extension
+     */
+    @NonNull
+    public Map<String, Method> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return The size in bytes below which entries of a known size are stored
+     */
+    public long getStoredThreshold() {
+        return storedThreshold;
+    }
+
+    /**
+     * @return The number of threads compressing entries
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return Whether entries are compressed concurrently
+     */
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    /**
+     * Returns the compression method of an entry. The rule for the extension of the entry wins over the size threshold.
+     *
+     * @param path The path of the entry
+     * @param size The size of the entry or -1 if it is not known yet
+     * @return The compression method
+     */
+    @NonNull
+    public Method methodFor(@NonNull String path, long size) {
+        if (!rules.isEmpty()) {
+            int slash = path.lastIndexOf('/');
+            int dot = path.lastIndexOf('.');
+            if (dot > slash + 1) {
+                Method method = rules.get(path.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+                if (method != null) {
+                    return method;
+                }
+            }
+        }
+        return size >= 0 && size < storedThreshold ? Method.STORED : Method.DEFLATED;
+    }
+
+    private static String normalize(String extension) {
+        String normalized = extension.startsWith(".") ? extension.substring(1) : extension;
+        return normalized.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The compression method of an entry.
+     */
+    public enum Method {
+        STORED,
+        DEFLATED
+    }
+}
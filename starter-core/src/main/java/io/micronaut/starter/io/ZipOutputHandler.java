@@ -15,25 +15,47 @@
  */
 package io.micronaut.starter.io;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.starter.application.Project;
+import io.micronaut.starter.template.PrecompressedTemplate;
+import io.micronaut.starter.template.RenderedTemplate;
+import io.micronaut.starter.template.ResourceContents;
 import io.micronaut.starter.template.Template;
 import org.apache.commons.compress.archivers.zip.UnixStat;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
 
 public class ZipOutputHandler implements OutputHandler {
 
     private final ZipArchiveOutputStream zipOutputStream;
     private final File zip;
     private final String directory;
+    private final ZipCompressionPolicy compressionPolicy;
+    private final ExecutorService compressionExecutor;
+    private final Queue<Future<PendingEntry>> pending = new ArrayDeque<>();
 
     public ZipOutputHandler(Project project) throws IOException {
         File baseDirectory = new File(".").getCanonicalFile();
@@ -45,18 +67,49 @@ public class ZipOutputHandler implements OutputHandler {
         zip.createNewFile();
         zipOutputStream = new ZipArchiveOutputStream(Files.newOutputStream(zip.toPath()));
         directory = project.getName();
+        compressionPolicy = ZipCompressionPolicy.DEFAULT;
+        compressionExecutor = null;
     }
 
     public ZipOutputHandler(OutputStream outputStream) {
-        zip = null;
-        zipOutputStream = new ZipArchiveOutputStream(outputStream);
-        directory = null;
+        this(null, outputStream);
     }
 
     public ZipOutputHandler(String projectName, OutputStream outputStream) {
+        this(projectName, outputStream, ZipCompressionPolicy.DEFAULT);
+    }
+
+    /**
+     * @param projectName The name of the directory the entries are written to or null to write them at the root
+     * @param outputStream The output stream
+     * @param compressionPolicy The compression policy
+     * @since 4.5.1
+     */
+    public ZipOutputHandler(String projectName, OutputStream outputStream, ZipCompressionPolicy compressionPolicy) {
+        this(projectName, outputStream, compressionPolicy, null);
+    }
+
+    /**
+     * Entries are deflated by the given executor, which is shared rather than owned by the handler, when the policy
+     * is {@link ZipCompressionPolicy#isParallel() parallel}. Every entry then goes through the same queue, so the
+     * entries are still written in the order they were generated.
+     *
+     * @param projectName The name of the directory the entries are written to or null to write them at the root
+     * @param outputStream The output stream
+     * @param compressionPolicy The compression policy
+     * @param compressionExecutor The executor deflating the entries or null to deflate them on the writing thread
+     * @since 4.5.1
+     */
+    public ZipOutputHandler(String projectName,
+                            OutputStream outputStream,
+                            ZipCompressionPolicy compressionPolicy,
+                            @Nullable ExecutorService compressionExecutor) {
         zip = null;
         zipOutputStream = new ZipArchiveOutputStream(outputStream);
+        zipOutputStream.setLevel(compressionPolicy.getLevel());
         directory = projectName;
+        this.compressionPolicy = compressionPolicy;
+        this.compressionExecutor = compressionPolicy.isParallel() ? compressionExecutor : null;
     }
 
     @Override
@@ -79,14 +132,169 @@ public class ZipOutputHandler implements OutputHandler {
         if (contents.isExecutable()) {
             zipEntry.setUnixMode(UnixStat.FILE_FLAG | 0755);
         }
+        if (contents instanceof PrecompressedTemplate precompressed) {
+            PendingEntry raw = rawEntry(path, zipEntry, precompressed.getContents());
+            if (raw != null) {
+                if (compressionExecutor != null) {
+                    enqueue(CompletableFuture.completedFuture(raw));
+                } else {
+                    raw.writeTo(zipOutputStream);
+                }
+                return;
+            }
+        }
+        Template written = contents;
+        if (compressionPolicy.getStoredThreshold() > 0 && !(contents instanceof RenderedTemplate)) {
+            // the stored threshold applies to the real size, which is only known once rendered
+            written = RenderedTemplate.render(contents);
+        }
+        long size = written instanceof RenderedTemplate rendered ? rendered.getLength() : -1;
+        ZipCompressionPolicy.Method method = compressionPolicy.methodFor(path, size);
+        if (compressionExecutor != null) {
+            // rendered templates may be released to their pool once written, so queued entries get their own copy
+            RenderedTemplate detached = written instanceof RenderedTemplate r ? r.detach() : RenderedTemplate.render(written);
+            if (method == ZipCompressionPolicy.Method.STORED) {
+                enqueue(CompletableFuture.completedFuture(storedEntry(zipEntry, detached)));
+            } else {
+                enqueue(compressionExecutor.submit(() -> deflate(zipEntry, detached, compressionPolicy.getLevel())));
+            }
+            return;
+        }
+        if (method == ZipCompressionPolicy.Method.STORED) {
+            RenderedTemplate rendered = written instanceof RenderedTemplate r ? r : RenderedTemplate.render(written);
+            storedEntry(zipEntry, rendered).writeTo(zipOutputStream);
+            return;
+        }
+        if (size >= 0) {
+            // already rendered into memory, written to the entry in a single call
+            zipEntry.setSize(size);
+        }
         zipOutputStream.putArchiveEntry(zipEntry);
-        contents.write(zipOutputStream);
+        written.write(zipOutputStream);
         zipOutputStream.closeArchiveEntry();
     }
 
     @Override
     public void close() throws IOException {
+        try {
+            writePending(true);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            pending.clear();
+        }
         zipOutputStream.finish();
         zipOutputStream.close();
     }
+
+    private void enqueue(Future<PendingEntry> entry) throws IOException {
+        pending.add(entry);
+        writePending(false);
+    }
+
+    /**
+     * Writes the queued entries in the order they were generated.
+     *
+     * @param wait Whether to wait for all the queued entries or only write those already deflated
+     * @throws IOException If an entry could not be deflated or written
+     */
+    private void writePending(boolean wait) throws IOException {
+        Future<PendingEntry> next;
+        while ((next = pending.peek()) != null && (wait || next.isDone())) {
+            PendingEntry entry;
+            try {
+                entry = next.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while compressing the archive entries");
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to compress the archive entries", e.getCause());
+            }
+            pending.poll();
+            entry.writeTo(zipOutputStream);
+        }
+    }
+
+    /**
+     * @return The entry copying the precompressed resource as it is or null if it has to be compressed again
+     */
+    @Nullable
+    private PendingEntry rawEntry(String path, ZipArchiveEntry zipEntry, ResourceContents resource) {
+        if (compressionPolicy.methodFor(path, resource.getSize()) == ZipCompressionPolicy.Method.STORED) {
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(resource.getSize());
+            zipEntry.setCompressedSize(resource.getSize());
+            zipEntry.setCrc(resource.getCrc());
+            return out -> {
+                try (InputStream stored = resource.openStream()) {
+                    out.addRawArchiveEntry(zipEntry, stored);
+                }
+            };
+        }
+        if (compressionPolicy.getLevel() == Deflater.DEFAULT_COMPRESSION) {
+            zipEntry.setMethod(ZipEntry.DEFLATED);
+            zipEntry.setSize(resource.getSize());
+            zipEntry.setCompressedSize(resource.getDeflatedSize());
+            zipEntry.setCrc(resource.getCrc());
+            return out -> {
+                try (InputStream deflated = resource.openDeflatedStream()) {
+                    out.addRawArchiveEntry(zipEntry, deflated);
+                }
+            };
+        }
+        return null;
+    }
+
+    private static PendingEntry storedEntry(ZipArchiveEntry zipEntry, RenderedTemplate rendered) throws IOException {
+        // stored entries need their size and CRC before their contents
+        CRC32 crc = new CRC32();
+        rendered.write(new CheckedOutputStream(OutputStream.nullOutputStream(), crc));
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(rendered.getLength());
+        zipEntry.setCompressedSize(rendered.getLength());
+        zipEntry.setCrc(crc.getValue());
+        return out -> {
+            out.putArchiveEntry(zipEntry);
+            rendered.write(out);
+            out.closeArchiveEntry();
+        };
+    }
+
+    private static PendingEntry deflate(ZipArchiveEntry zipEntry, RenderedTemplate rendered, int level) throws IOException {
+        CRC32 crc = new CRC32();
+        Deflater deflater = new Deflater(level, true);
+        ExposedByteArrayOutputStream deflated = new ExposedByteArrayOutputStream(Math.max(64, rendered.getLength() / 2));
+        try (OutputStream deflating = new CheckedOutputStream(new DeflaterOutputStream(deflated, deflater), crc)) {
+            rendered.write(deflating);
+        } finally {
+            deflater.end();
+        }
+        zipEntry.setMethod(ZipEntry.DEFLATED);
+        zipEntry.setSize(rendered.getLength());
+        zipEntry.setCompressedSize(deflated.size());
+        zipEntry.setCrc(crc.getValue());
+        return out -> out.addRawArchiveEntry(zipEntry, deflated.toInputStream());
+    }
+
+    /**
+     * An entry ready to be written to the archive.
+     */
+    @FunctionalInterface
+    private interface PendingEntry {
+
+        void writeTo(ZipArchiveOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads the deflated contents back without copying them.
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
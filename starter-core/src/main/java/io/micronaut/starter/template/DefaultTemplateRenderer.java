@@ -20,7 +20,6 @@ import io.micronaut.starter.io.OutputHandler;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class DefaultTemplateRenderer implements TemplateRenderer {
@@ -49,6 +48,11 @@ public class DefaultTemplateRenderer implements TemplateRenderer {
         }
     }
 
+    @Override
+    public boolean isSkipped(Template template) {
+        return outputHandler.exists(replaceVariables(template.getPath(), replacements));
+    }
+
     public OutputHandler getOutputHandler() {
         return outputHandler;
     }
@@ -58,21 +62,7 @@ public class DefaultTemplateRenderer implements TemplateRenderer {
     }
 
     protected String replaceVariables(String path, Map<String, String> replacements) {
-        Matcher matcher = VARIABLES_PATTERN.matcher(path);
-        StringBuilder builder = new StringBuilder();
-        int i = 0;
-        while (matcher.find()) {
-            String replacement = replacements.get(matcher.group(1));
-            builder.append(path, i, matcher.start());
-            if (replacement == null) {
-                builder.append(matcher.group(0));
-            } else {
-                builder.append(replacement);
-            }
-            i = matcher.end();
-        }
-        builder.append(path.substring(i));
-        return builder.toString();
+        return PathTemplate.compile(path).apply(replacements);
     }
 
     @Override
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.template;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A template path parsed into literal and variable segments, such as {@code src/main/java/{packagePath}/Application.java}.
+ * Paths are parsed once and cached, substituting the variables is then a single pass over the segments.
+ *
+ * <p>Variables are matched exactly like {@link DefaultTemplateRenderer#VARIABLES_PATTERN}: from an opening brace to the
+ * closest closing brace with at least one character and no line terminator in between. Variables without a
+ * replacement are kept as they are.</p>
+ *
+ * @since 4.5.1
+ */
+public final class PathTemplate {
+
+    private static final int MAX_CACHED = 4096;
+
+    private static final Map<String, PathTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final String[] literals;
+    private final String[] variables;
+
+    private PathTemplate(String path, String[] literals, String[] variables) {
+        this.path = path;
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Returns the parsed form of the given path, parsing it on first use.
+     *
+     * @param path The template path
+     * @return The path template
+     */
+    @NonNull
+    public static PathTemplate compile(@NonNull String path) {
+        PathTemplate template = CACHE.get(path);
+        if (template == null) {
+            template = parse(path);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.putIfAbsent(path, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Substitutes the variables of this path.
+     *
+     * @param replacements The values of the variables
+     * @return The path with the variables substituted
+     */
+    @NonNull
+    public String apply(@NonNull Map<String, String> replacements) {
+        if (variables.length == 0) {
+            return path;
+        }
+        StringBuilder builder = new StringBuilder(path.length() + 16 * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]);
+            String replacement = replacements.get(variables[i]);
+            if (replacement == null) {
+                builder.append('{').append(variables[i]).append('}');
+            } else {
+                builder.append(replacement);
+            }
+        }
+        return builder.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * @return Whether the path has any variable
+     */
+    public boolean hasVariables() {
+        return variables.length > 0;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static PathTemplate parse(String path) {
+        List<String> literals = new ArrayList<>(4);
+        List<String> variables = new ArrayList<>(4);
+        int literalStart = 0;
+        int i = path.indexOf('{');
+        while (i >= 0) {
+            int end = variableEnd(path, i);
+            if (end < 0) {
+                i = path.indexOf('{', i + 1);
+            } else {
+                literals.add(path.substring(literalStart, i));
+                variables.add(path.substring(i + 1, end));
+                literalStart = end + 1;
+                i = path.indexOf('{', literalStart);
+            }
+        }
+        literals.add(path.substring(literalStart));
+        return new PathTemplate(path, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * @param path The template path
+     * @param open The index of the opening brace
+     * @return The index of the brace closing the variable opened at the given index, or -1 if there is none
+     */
+    private static int variableEnd(String path, int open) {
+        for (int j = open + 1; j < path.length(); j++) {
+            char c = path.charAt(j);
+            if (isLineTerminator(c)) {
+                return -1;
+            }
+            if (c == '}' && j > open + 1) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
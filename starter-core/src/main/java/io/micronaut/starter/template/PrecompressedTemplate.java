@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.template;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A template for a static resource which has been loaded and compressed ahead of time.
+ *
+ * @see ResourceContents
+ * @since 4.5.1
+ */
+public class PrecompressedTemplate extends DefaultTemplate {
+
+    private final ResourceContents contents;
+    private final boolean binary;
+    private final boolean executable;
+
+    public PrecompressedTemplate(@NonNull String module, @NonNull String path, @NonNull ResourceContents contents) {
+        this(module, path, contents, false, false);
+    }
+
+    public PrecompressedTemplate(@NonNull String module,
+                                 @NonNull String path,
+                                 @NonNull ResourceContents contents,
+                                 boolean binary,
+                                 boolean executable) {
+        super(module, path);
+        this.contents = contents;
+        this.binary = binary;
+        this.executable = executable;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        contents.write(outputStream);
+    }
+
+    @Override
+    public boolean isBinary() {
+        return binary;
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return executable;
+    }
+
+    /**
+     * @return The contents of the resource
+     */
+    @NonNull
+    public ResourceContents getContents() {
+        return contents;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.template;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.starter.io.BufferPool;
+import io.micronaut.starter.io.PooledBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A template whose contents have already been rendered into memory. The path, module and flags are those of the
+ * original template.
+ *
+ * @since 4.5.1
+ */
+public final class RenderedTemplate implements Template {
+
+    private final Template template;
+    private final byte[] contents;
+    private final int length;
+    private final PooledBuffer buffer;
+    private boolean released;
+
+    private RenderedTemplate(Template template, byte[] contents, int length, @Nullable PooledBuffer buffer) {
+        this.template = template;
+        this.contents = contents;
+        this.length = length;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Renders the given template into memory.
+     *
+     * @param template The template
+     * @return The rendered template
+     * @throws IOException If the template cannot be rendered
+     */
+    @NonNull
+    public static RenderedTemplate render(@NonNull Template template) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        template.write(out);
+        return new RenderedTemplate(template, out.toByteArray(), out.size(), null);
+    }
+
+    /**
+     * Renders the given template into a buffer of the given pool. The rendered bytes are written to the output
+     * straight from the pooled buffer, which must be {@link #release() released} once they have been written.
+     *
+     * @param template The template
+     * @param bufferPool The buffer pool
+     * @return The rendered template
+     * @throws IOException If the template cannot be rendered
+     */
+    @NonNull
+    public static RenderedTemplate render(@NonNull Template template, @NonNull BufferPool bufferPool) throws IOException {
+        PooledBuffer buffer = bufferPool.acquire();
+        try {
+            template.write(buffer);
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        return new RenderedTemplate(template, buffer.array(), buffer.size(), buffer);
+    }
+
+    /**
+     * @return The template that was rendered
+     */
+    @NonNull
+    public Template getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return The number of rendered bytes
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns a rendered template which can still be written after this one is {@link #release() released}: this
+     * template if it was not rendered into a pooled buffer, a copy of it otherwise.
+     *
+     * @return The rendered template
+     */
+    @NonNull
+    public RenderedTemplate detach() {
+        if (buffer == null) {
+            return this;
+        }
+        return new RenderedTemplate(template, Arrays.copyOf(contents, length), length, null);
+    }
+
+    /**
+     * Returns the buffer the template was rendered into to its pool, if any. The template must not be written
+     * afterwards. Releasing a template more than once has no effect.
+     */
+    public synchronized void release() {
+        if (buffer != null && !released) {
+            released = true;
+            buffer.release();
+        }
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        outputStream.write(contents, 0, length);
+    }
+
+    @Override
+    public String getPath() {
+        return template.getPath();
+    }
+
+    @Override
+    public void setUseModule(boolean useModule) {
+        template.setUseModule(useModule);
+    }
+
+    @Override
+    @NonNull
+    public String getModule() {
+        return template.getModule();
+    }
+
+    @Override
+    public boolean isBinary() {
+        return template.isBinary();
+    }
+
+    @Override
+    public boolean isExecutable() {
+        return template.isExecutable();
+    }
+}
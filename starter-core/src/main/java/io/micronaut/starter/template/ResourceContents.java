@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.template;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * The immutable contents of a static resource, together with its CRC-32 and its raw deflated form, so that
+ * archives can store it without reading or compressing it again.
+ *
+ * @since 4.5.1
+ */
+public final class ResourceContents {
+
+    private final byte[] contents;
+    private final byte[] deflated;
+    private final long crc;
+
+    private ResourceContents(byte[] contents) {
+        this.contents = contents;
+        CRC32 crc32 = new CRC32();
+        crc32.update(contents);
+        this.crc = crc32.getValue();
+        this.deflated = deflate(contents);
+    }
+
+    /**
+     * Reads the resource at the given URL.
+     *
+     * @param url The URL of the resource
+     * @return The contents of the resource
+     * @throws UncheckedIOException If the resource cannot be read
+     */
+    @NonNull
+    public static ResourceContents load(@NonNull URL url) {
+        Objects.requireNonNull(url, "The resource URL cannot be null");
+        try (InputStream inputStream = url.openStream()) {
+            return new ResourceContents(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read resource " + url, e);
+        }
+    }
+
+    /**
+     * Reads the resource with the given name from the context class loader.
+     *
+     * @param name The resource name
+     * @return The contents of the resource
+     * @throws NullPointerException If the resource does not exist
+     */
+    @NonNull
+    public static ResourceContents load(@NonNull String name) {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(name);
+        return load(Objects.requireNonNull(url, "Resource not found for path: " + name));
+    }
+
+    /**
+     * Writes the uncompressed contents.
+     *
+     * @param outputStream The output stream
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(@NonNull OutputStream outputStream) throws IOException {
+        outputStream.write(contents);
+    }
+
+    /**
+     * @return A stream of the uncompressed contents
+     */
+    @NonNull
+    public InputStream openStream() {
+        return new ByteArrayInputStream(contents);
+    }
+
+    /**
+     * @return A stream of the contents compressed with the raw DEFLATE format and the default compression level
+     */
+    @NonNull
+    public InputStream openDeflatedStream() {
+        return new ByteArrayInputStream(deflated);
+    }
+
+    /**
+     * @return The uncompressed size
+     */
+    public long getSize() {
+        return contents.length;
+    }
+
+    /**
+     * @return The compressed size
+     */
+    public long getDeflatedSize() {
+        return deflated.length;
+    }
+
+    /**
+     * @return The CRC-32 of the uncompressed contents
+     */
+    public long getCrc() {
+        return crc;
+    }
+
+    private static byte[] deflate(byte[] contents) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, contents.length / 2));
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(out, deflater)) {
+            deflaterOutputStream.write(contents);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -30,6 +30,15 @@ public interface TemplateRenderer extends Closeable {
 
     RenderResult render(Template template, boolean force) throws IOException;
 
+    /**
+     * @param template The template
+     * @return Whether rendering the template without forcing it would skip it, as its file already exists
+     * @since 4.5.1
+     */
+    default boolean isSkipped(Template template) {
+        return false;
+    }
+
     static TemplateRenderer create(OutputHandler outputHandler) {
         return new DefaultTemplateRenderer(Collections.emptyMap(), outputHandler);
     }
@@ -48,11 +48,7 @@ public class URLTemplate extends DefaultTemplate {
     @Override
     public void write(OutputStream outputStream) throws IOException {
         try (InputStream inputStream = url.openStream()) {
-            byte[] buffer = new byte[1024];
-            int len;
-            while ((len = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, len);
-            }
+            inputStream.transferTo(outputStream);
         }
     }
 
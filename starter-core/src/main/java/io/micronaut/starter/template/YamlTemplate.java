@@ -21,7 +21,10 @@ import org.yaml.snakeyaml.Yaml;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -29,6 +32,13 @@ import java.util.regex.Pattern;
 public class YamlTemplate extends DefaultTemplate {
 
     private static final Pattern DOT_PATTERN = Pattern.compile("\\.");
+    private static final byte[] EMPTY_CONFIGURATION = "# Place application configuration here".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * A {@link Yaml} is not thread safe but can dump any number of documents, so one is kept per thread.
+     */
+    private static final ThreadLocal<Yaml> YAML = ThreadLocal.withInitial(() -> new Yaml(defaultOptions()));
+
     private final Map<String, Object> config;
 
     public YamlTemplate(String path, Map<String, Object> config) {
@@ -47,14 +57,21 @@ public class YamlTemplate extends DefaultTemplate {
     @Override
     public void write(OutputStream outputStream) throws IOException {
         if (!config.isEmpty()) {
-            Yaml yaml = new Yaml(createOptions());
-            yaml.dump(config, new OutputStreamWriter(outputStream));
+            // subclasses may customize the options
+            Yaml yaml = getClass() == YamlTemplate.class ? YAML.get() : new Yaml(createOptions());
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            yaml.dump(config, writer);
+            writer.flush();
         } else {
-            outputStream.write("# Place application configuration here".getBytes());
+            outputStream.write(EMPTY_CONFIGURATION);
         }
     }
 
     protected DumperOptions createOptions() {
+        return defaultOptions();
+    }
+
+    private static DumperOptions defaultOptions() {
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         options.setPrettyFlow(true);
@@ -63,6 +80,14 @@ public class YamlTemplate extends DefaultTemplate {
 
     @SuppressWarnings("unchecked")
     protected Map<String, Object> transform(Map<String, Object> config) {
+        // the number of keys sharing each first segment, so that the keys are nested in a single pass
+        Map<String, Integer> prefixCounts = new HashMap<>();
+        for (String key : config.keySet()) {
+            int index = key.indexOf('.');
+            if (index != -1) {
+                prefixCounts.merge(key.substring(0, index), 1, Integer::sum);
+            }
+        }
         Map<String, Object> transformed = new LinkedHashMap<>();
         for (Map.Entry<String, Object> entry: config.entrySet()) {
             Map<String, Object> finalMap = transformed;
@@ -71,7 +96,7 @@ public class YamlTemplate extends DefaultTemplate {
             int index = key.indexOf('.');
             if (index != -1) {
                 String[] keys = DOT_PATTERN.split(key);
-                if (!"micronaut".equals(keys[0]) && config.keySet().stream().filter(k -> k.startsWith(keys[0] + ".")).count() == 1) {
+                if (!"micronaut".equals(keys[0]) && prefixCounts.get(keys[0]) == 1) {
                     finalMap.put(key, value);
                 } else {
                     for (int i = 0; i < keys.length - 1; i++) {
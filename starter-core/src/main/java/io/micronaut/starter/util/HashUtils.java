@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.starter.util;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stable, non-cryptographic 64-bit hashes of generated contents and feature names.
+ *
+ * @since 4.5.1
+ */
+public final class HashUtils {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private HashUtils() {
+    }
+
+    /**
+     * @param bytes The bytes
+     * @return The 64-bit FNV-1a hash of the bytes
+     */
+    public static long fnv1a(@NonNull byte[] bytes) {
+        long h = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            h ^= b & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * @param text The text
+     * @return The 64-bit FNV-1a hash of the UTF-8 bytes of the text
+     */
+    public static long fnv1a(@NonNull String text) {
+        return fnv1a(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The MurmurHash3 finalizer, which spreads every input bit over the whole hash so that sums of hashes stay well
+     * distributed.
+     *
+     * @param h The hash
+     * @return The mixed hash
+     */
+    public static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
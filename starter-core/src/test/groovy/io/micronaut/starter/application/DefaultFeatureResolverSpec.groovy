@@ -0,0 +1,49 @@
+package io.micronaut.starter.application
+
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.feature.AvailableFeatures
+import io.micronaut.starter.feature.DefaultFeature
+import io.micronaut.starter.feature.Feature
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import spock.lang.Shared
+
+class DefaultFeatureResolverSpec extends BeanContextSpec {
+
+    @Shared
+    AvailableFeatures availableFeatures = beanContext.getBean(DefaultAvailableFeatures)
+
+    @Shared
+    DefaultFeatureResolver resolver = beanContext.getBean(DefaultFeatureResolver)
+
+    void "default features resolved for #language and #buildTool match the unplanned resolution"(Language language, BuildTool buildTool, List<String> selected) {
+        given:
+        Options options = new Options(language, language.defaults.test, buildTool, JdkVersion.JDK_17)
+
+        when:
+        List<Feature> expected = []
+        DefaultFeature.forEach(availableFeatures.getAllFeatures(), ApplicationType.DEFAULT, options, select(selected), expected::add)
+        Set<Feature> first = select(selected)
+        resolver.addDefaultFeatures(availableFeatures, ApplicationType.DEFAULT, options, first)
+        Set<Feature> second = select(selected)
+        resolver.addDefaultFeatures(availableFeatures, ApplicationType.DEFAULT, options, second)
+
+        then:
+        first == select(selected) + expected
+        second == first
+
+        where:
+        language        | buildTool               | selected
+        Language.JAVA   | BuildTool.GRADLE        | []
+        Language.KOTLIN | BuildTool.GRADLE_KOTLIN | ['graalvm']
+        Language.GROOVY | BuildTool.MAVEN         | ['data-jdbc', 'postgres']
+    }
+
+    private Set<Feature> select(List<String> names) {
+        Set<Feature> features = Collections.newSetFromMap(new IdentityHashMap<>())
+        names.each { features.add(availableFeatures.findFeature(it, true).get()) }
+        features
+    }
+}
@@ -0,0 +1,234 @@
+package io.micronaut.starter.application.generator
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.build.dependencies.CoordinateResolver
+import io.micronaut.starter.build.dependencies.Dependency
+import io.micronaut.starter.feature.Feature
+import io.micronaut.starter.feature.config.ApplicationConfiguration
+import io.micronaut.starter.fixture.CommandOutputFixture
+import io.micronaut.starter.fixture.ProjectFixture
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import io.micronaut.starter.template.StringTemplate
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.function.BiFunction
+import java.util.function.Function
+
+class ConcurrentApplySpec extends BeanContextSpec implements CommandOutputFixture, ProjectFixture {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext concurrentContext = ApplicationContext.run((GeneratorConfiguration.PREFIX + '.apply-parallelism'): 4)
+
+    @Shared
+    ExecutorService executor = Executors.newFixedThreadPool(4)
+
+    void cleanupSpec() {
+        executor.shutdownNow()
+    }
+
+    void "concurrent application produces the same project for #buildTool and #features"(BuildTool buildTool, List<String> features) {
+        given:
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, buildTool, JdkVersion.JDK_17)
+
+        when:
+        Map<String, String> sequential = generate(ApplicationType.DEFAULT, options, features)
+        Map<String, String> concurrent = new ConcurrentFixture(beanContext: concurrentContext).generate(ApplicationType.DEFAULT, options, features)
+
+        then:
+        concurrentContext.getBean(GeneratorConfiguration).parallelApply
+        concurrent.keySet().toList() == sequential.keySet().toList()
+        concurrent == sequential
+
+        where:
+        [buildTool, features] << [[BuildTool.GRADLE, BuildTool.MAVEN], [
+                ['reactor', 'retry', 'cache-ehcache', 'jmx', 'data-jdbc', 'postgres'],
+                ['kubernetes', 'flyway', 'kafka-streams', 'elasticsearch', 'micrometer', 'rabbitmq', 'cache-hazelcast',
+                 'redis-lettuce', 'tracing-opentelemetry-http', 'jib', 'asciidoctor', 'reactor', 'retry', 'jmx', 'management']
+        ]].combinations()
+    }
+
+    void "writes of features applied concurrently are replayed in order"() {
+        given:
+        List<Feature> features = (1..8).collect { new WritingFeature("feature-${it}") }
+
+        when:
+        GeneratorContext sequential = context(features)
+        sequential.applyFeatures()
+        GeneratorContext concurrent = context(features)
+        concurrent.applyFeatures(executor)
+
+        then:
+        concurrent.configuration.keySet().toList() == sequential.configuration.keySet().toList()
+        concurrent.configuration.get("shared.list") == sequential.configuration.get("shared.list")
+        concurrent.templates.keySet().toList() == sequential.templates.keySet().toList()
+        concurrent.dependencies == sequential.dependencies
+        concurrent.buildProperties.properties*.key == sequential.buildProperties.properties*.key
+    }
+
+    void "features writing to undeclared facets fail when applied concurrently"() {
+        given:
+        GeneratorContext generatorContext = context([new WritingFeature("a"), new WritingFeature("b", [GeneratorFacet.DEPENDENCIES] as Set)])
+
+        when:
+        generatorContext.applyFeatures(executor)
+
+        then:
+        IllegalStateException e = thrown()
+        e.message.contains("[b]")
+    }
+
+    void "every map operation on the configuration is replayed and features reading what others wrote are applied again"() {
+        given:
+        List<MapApiFeature> features = (1..4).collect { new MapApiFeature("feature-${it}") }
+
+        when:
+        GeneratorContext sequential = context(features)
+        sequential.applyFeatures()
+        GeneratorContext concurrent = context(features)
+        concurrent.applyFeatures(executor)
+
+        then:
+        new LinkedHashMap(concurrent.configuration) == new LinkedHashMap(sequential.configuration)
+        concurrent.configuration.get("counter") == 4
+        concurrent.configuration.get("nested") == ["feature-1": 1, "feature-2": 2, "feature-3": 3, "feature-4": 4]
+        !concurrent.configuration.containsKey("removed")
+        features*.observed == (1..4).collect { [it, true, it] }
+        features.every { it.path == concurrent.configuration.getPath() }
+    }
+
+    void "configuration values cannot be changed without being recorded"() {
+        given:
+        Feature nestedWrite = new WritingFeature("b", [GeneratorFacet.CONFIGURATION] as Set) {
+            @Override
+            void apply(GeneratorContext generatorContext) {
+                ((Map) generatorContext.getConfiguration().get("a")).put("other", true)
+            }
+        }
+        GeneratorContext generatorContext = context([nestedWrite, new WritingFeature("a")])
+        generatorContext.getConfiguration().addNested("a.enabled", false)
+
+        when:
+        generatorContext.applyFeatures(executor)
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "a feature reading what a feature before it wrote is applied again sequentially"() {
+        given:
+        List<Feature> features = [new WritingFeature("a"), new ReadingFeature("b", "a"), new ReadingFeature("c", "d"), new WritingFeature("d")]
+
+        when:
+        GeneratorContext sequential = context(features)
+        sequential.applyFeatures()
+        GeneratorContext concurrent = context(features)
+        concurrent.applyFeatures(executor)
+
+        then:
+        concurrent.templates.keySet().toList() == sequential.templates.keySet().toList()
+        concurrent.templates.containsKey("b-found")
+        !concurrent.templates.containsKey("c-found")
+        concurrent.dependencies == sequential.dependencies
+    }
+
+    void "a feature doing what cannot be recorded is applied sequentially"() {
+        given:
+        Feature bootstrap = new WritingFeature("b") {
+            @Override
+            void apply(GeneratorContext generatorContext) {
+                super.apply(generatorContext)
+                generatorContext.getBootstrapConfiguration().put("b.enabled", true)
+            }
+        }
+        GeneratorContext generatorContext = context([new WritingFeature("a"), bootstrap])
+
+        when:
+        generatorContext.applyFeatures(executor)
+
+        then:
+        generatorContext.bootstrapConfiguration.get("b.enabled") == true
+        generatorContext.templates.keySet().toList() == ["a", "b"]
+        generatorContext.configuration.get("shared.list") == ["a", "b"]
+    }
+
+    private GeneratorContext context(List<Feature> features) {
+        new GeneratorContext(buildProject(), ApplicationType.DEFAULT, new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE),
+                null, features as LinkedHashSet, { Optional.empty() } as CoordinateResolver)
+    }
+
+    static class ConcurrentFixture implements CommandOutputFixture {
+        ApplicationContext beanContext
+    }
+
+    static class MapApiFeature extends WritingFeature {
+        List<Object> observed
+        String path
+
+        MapApiFeature(String name) {
+            super(name, [GeneratorFacet.CONFIGURATION] as Set)
+        }
+
+        @Override
+        void apply(GeneratorContext generatorContext) {
+            ApplicationConfiguration configuration = generatorContext.getConfiguration()
+            int index = name.substring(name.lastIndexOf('-') + 1) as int
+            configuration.putIfAbsent("counter", 0)
+            configuration.merge("counter", 1, { a, b -> a + b } as BiFunction)
+            configuration.computeIfAbsent("removed", { "gone" } as Function)
+            configuration.remove("removed")
+            configuration.addNested("nested.${name}".toString(), index)
+            observed = [configuration.get("counter"), configuration.containsKey("nested.${name}".toString()), configuration.get("nested").size()]
+            path = configuration.getPath()
+        }
+    }
+
+    static class ReadingFeature extends WritingFeature {
+        final String read
+
+        ReadingFeature(String name, String read) {
+            super(name, [GeneratorFacet.TEMPLATES] as Set)
+            this.read = read
+        }
+
+        @Override
+        void apply(GeneratorContext generatorContext) {
+            if (generatorContext.hasDependency("org.example", read)) {
+                generatorContext.addTemplate("${name}-found".toString(), new StringTemplate("${name}.txt", name))
+            }
+        }
+    }
+
+    static class WritingFeature implements Feature {
+        final String name
+        final Set<GeneratorFacet> writeFacets
+
+        WritingFeature(String name, Set<GeneratorFacet> writeFacets = EnumSet.allOf(GeneratorFacet)) {
+            this.name = name
+            this.writeFacets = writeFacets
+        }
+
+        @Override
+        void apply(GeneratorContext generatorContext) {
+            generatorContext.addDependency(Dependency.builder().groupId("org.example").artifactId(name).version("1.0").compile())
+            generatorContext.getConfiguration().put("${name}.enabled".toString(), true)
+            generatorContext.getConfiguration().addListItem("shared.list", name)
+            generatorContext.addTemplate(name, new StringTemplate("${name}.txt", name))
+            generatorContext.getBuildProperties().put("${name}.version".toString(), "1.0")
+        }
+
+        @Override
+        boolean supports(ApplicationType applicationType) {
+            true
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.micronaut.starter.application.generator
+
+import io.micronaut.starter.build.dependencies.CoordinateResolver
+import io.micronaut.starter.build.dependencies.Dependency
+import io.micronaut.starter.build.dependencies.Scope
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.Language
+import spock.lang.Specification
+
+class DependencyContextImplSpec extends Specification {
+
+    void "duplicates are removed according to the scope precedence"() {
+        given:
+        DependencyContextImpl context = new DependencyContextImpl({ Optional.empty() } as CoordinateResolver)
+        context.addDependency(geb().compile())
+        context.addDependency(geb().runtime())
+        context.addDependency(geb().compileOnly())
+        context.addDependency(geb().test())
+        context.addDependency(geb().testRuntime())
+        context.addDependency(selenium().runtime())
+        context.addDependency(selenium().test())
+
+        when:
+        List<Dependency> dependencies = context.removeDuplicates(context.getDependencies(), Language.JAVA, BuildTool.GRADLE)
+
+        then:
+        dependencies.findAll { it.artifactId == "geb-core" }*.scope == [Scope.COMPILE]
+        dependencies.any { it.artifactId == "selenium-firefox-driver" && it.scope == Scope.RUNTIME }
+        dependencies.any { it.artifactId == "selenium-firefox-driver" && it.scope == Scope.TEST }
+        dependencies == dependencies.toSorted(Dependency.COMPARATOR)
+        dependencies == new DependencyContextImpl({ Optional.empty() } as CoordinateResolver)
+                .removeDuplicates(new ArrayList<>(context.getDependencies()), Language.JAVA, BuildTool.GRADLE)
+    }
+
+    void "the index is updated as dependencies are added"() {
+        given:
+        DependencyContextImpl context = new DependencyContextImpl({ Optional.empty() } as CoordinateResolver)
+        context.addDependency(geb().compile())
+
+        when:
+        List<Dependency> first = context.removeDuplicates(context.getDependencies(), Language.JAVA, BuildTool.MAVEN)
+
+        then:
+        context.removeDuplicates(context.getDependencies(), Language.JAVA, BuildTool.MAVEN).is(first)
+        context.hasDependency("org.gebish", "geb-core")
+        context.hasDependencyInScope("org.gebish", "geb-core", Scope.COMPILE)
+        !context.hasDependencyInScope("org.gebish", "geb-core", Scope.TEST)
+        context.countDependencies("org.gebish") == 1
+
+        when:
+        context.addDependency(geb().compile())
+
+        then: 'adding a dependency twice has no effect'
+        context.removeDuplicates(context.getDependencies(), Language.JAVA, BuildTool.MAVEN).is(first)
+
+        when:
+        context.addDependency(selenium().test())
+        List<Dependency> second = context.removeDuplicates(context.getDependencies(), Language.JAVA, BuildTool.MAVEN)
+
+        then:
+        !second.is(first)
+        second.size() == 2
+        context.hasDependencyInScope("org.seleniumhq.selenium", "selenium-firefox-driver", Scope.TEST)
+        context.countDependencies("org.seleniumhq.selenium") == 1
+    }
+
+    private static Dependency.Builder geb() {
+        Dependency.builder().groupId("org.gebish").artifactId("geb-core").version("7.0")
+    }
+
+    private static Dependency.Builder selenium() {
+        Dependency.builder().groupId("org.seleniumhq.selenium").artifactId("selenium-firefox-driver").version("4.0.0")
+    }
+}
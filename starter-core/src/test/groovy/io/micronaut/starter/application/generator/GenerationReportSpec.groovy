@@ -0,0 +1,107 @@
+package io.micronaut.starter.application.generator
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.application.ContextFactory
+import io.micronaut.starter.feature.AvailableFeatures
+import io.micronaut.starter.feature.FeatureContext
+import io.micronaut.starter.fixture.CommandOutputFixture
+import io.micronaut.starter.io.ConsoleOutput
+import io.micronaut.starter.io.MapOutputHandler
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import io.micronaut.starter.template.StringTemplate
+import io.micronaut.starter.util.NameUtils
+
+class GenerationReportSpec extends BeanContextSpec implements CommandOutputFixture {
+
+    void "a report set on the generator context records every phase, feature and template"() {
+        given:
+        GenerationReport report = new GenerationReport(ApplicationType.DEFAULT)
+        ContextFactory contextFactory = beanContext.getBean(ContextFactory)
+        AvailableFeatures availableFeatures = beanContext.getBean(AvailableFeatures, Qualifiers.byName(ApplicationType.DEFAULT.name))
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17)
+        FeatureContext featureContext = contextFactory.createFeatureContext(availableFeatures, ['yaml'], ApplicationType.DEFAULT, options, null, report)
+        GeneratorContext generatorContext = contextFactory.createGeneratorContext(NameUtils.parse("example.micronaut.foo"), featureContext, ConsoleOutput.NOOP, report)
+
+        when:
+        Map<String, String> project = generate(ApplicationType.DEFAULT, generatorContext)
+
+        then:
+        generatorContext.instrumentation.is(report)
+        report.phases.keySet() == EnumSet.allOf(GenerationPhase)
+        report.features.keySet().containsAll(generatorContext.features)
+        report.templates.size() == generatorContext.templates.size()
+        !project.isEmpty()
+        report.totalBytes > 0
+        report.totalNanos > 0
+    }
+
+    void "generations are not instrumented without listeners"() {
+        when:
+        GeneratorContext generatorContext = projectGenerator.createGeneratorContext(ApplicationType.DEFAULT,
+                NameUtils.parse("example.micronaut.foo"),
+                new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17),
+                null, [], ConsoleOutput.NOOP)
+
+        then:
+        generatorContext.instrumentation.is(GenerationInstrumentation.NOOP)
+    }
+
+    void "listeners receive the report of every generation"() {
+        given:
+        List<GenerationReport> reports = []
+        ApplicationContext context = ApplicationContext.run()
+        context.registerSingleton(GenerationReportListener, { GenerationReport report -> reports << report } as GenerationReportListener)
+        ProjectGenerator generator = context.getBean(ProjectGenerator)
+
+        when:
+        generator.generate(ApplicationType.CLI,
+                NameUtils.parse("example.micronaut.foo"),
+                new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.MAVEN, JdkVersion.JDK_17),
+                null, [], new MapOutputHandler(), ConsoleOutput.NOOP)
+
+        then:
+        reports.size() == 1
+        reports[0].applicationType == ApplicationType.CLI
+        reports[0].phases.containsKey(GenerationPhase.RENDERING)
+        !reports[0].templates.isEmpty()
+
+        cleanup:
+        context.close()
+    }
+
+    void "templates rendered in parallel are reported with their render time"() {
+        given:
+        List<GenerationReport> reports = []
+        ApplicationContext context = ApplicationContext.run([(GeneratorConfiguration.PREFIX + ".render-parallelism"): 4])
+        context.registerSingleton(GenerationReportListener, { GenerationReport report -> reports << report } as GenerationReportListener)
+        ProjectGenerator generator = context.getBean(ProjectGenerator)
+        GeneratorContext generatorContext = generator.createGeneratorContext(ApplicationType.DEFAULT,
+                NameUtils.parse("example.micronaut.foo"),
+                new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17),
+                null, [], ConsoleOutput.NOOP)
+        generatorContext.addTemplate("slow", new StringTemplate("slow.txt", "slow") {
+            @Override
+            void write(OutputStream outputStream) throws IOException {
+                Thread.sleep(50)
+                super.write(outputStream)
+            }
+        })
+
+        when:
+        generator.generate(ApplicationType.DEFAULT, generatorContext.project, new MapOutputHandler(), generatorContext)
+
+        then:
+        reports.size() == 1
+        reports[0].templates.find { it.path() == "slow.txt" }.nanos() >= 50_000_000L
+
+        cleanup:
+        context.close()
+    }
+}
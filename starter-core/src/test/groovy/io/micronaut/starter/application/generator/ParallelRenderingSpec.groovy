@@ -0,0 +1,42 @@
+package io.micronaut.starter.application.generator
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.fixture.CommandOutputFixture
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+
+class ParallelRenderingSpec extends BeanContextSpec implements CommandOutputFixture {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext parallelContext = ApplicationContext.run((GeneratorConfiguration.PREFIX + '.render-parallelism'): 4)
+
+    void "parallel rendering produces the same project for #buildTool"(BuildTool buildTool) {
+        given:
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, buildTool, JdkVersion.JDK_17)
+        List<String> features = ['graalvm', 'data-jdbc', 'postgres', 'github-workflow-ci']
+
+        when:
+        Map<String, String> sequential = generate(ApplicationType.DEFAULT, options, features)
+        Map<String, String> parallel = new ParallelFixture(beanContext: parallelContext).generate(ApplicationType.DEFAULT, options, features)
+
+        then:
+        parallelContext.getBean(GeneratorConfiguration).parallelRendering
+        parallel.keySet().toList() == sequential.keySet().toList()
+        parallel == sequential
+
+        where:
+        buildTool << [BuildTool.GRADLE, BuildTool.MAVEN]
+    }
+
+    static class ParallelFixture implements CommandOutputFixture {
+        ApplicationContext beanContext
+    }
+}
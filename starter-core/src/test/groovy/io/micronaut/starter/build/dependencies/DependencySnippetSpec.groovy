@@ -0,0 +1,87 @@
+package io.micronaut.starter.build.dependencies
+
+import io.micronaut.starter.application.generator.GeneratorContext
+import io.micronaut.starter.build.gradle.GradleDependency
+import io.micronaut.starter.build.maven.MavenDependency
+import io.micronaut.starter.feature.build.maven.templates.dependency
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.TestFramework
+import spock.lang.Specification
+
+class DependencySnippetSpec extends Specification {
+
+    void "gradle snippets are rendered once per dependency and rendering context"(BuildTool buildTool, String expected) {
+        given:
+        GeneratorContext ctx = Stub(GeneratorContext) {
+            getLanguage() >> Language.JAVA
+            getTestFramework() >> TestFramework.JUNIT
+            getBuildTool() >> buildTool
+        }
+        Dependency dependency = Dependency.builder()
+                .groupId("io.micronaut.data")
+                .artifactId("micronaut-data-jdbc")
+                .exclude(Dependency.builder().groupId("org.slf4j").artifactId("slf4j-api").build())
+                .compile()
+                .build()
+
+        when:
+        String snippet = new GradleDependency(dependency, ctx, false).toSnippet()
+
+        then:
+        snippet == expected
+        new GradleDependency(dependency, ctx, false).toSnippet().is(snippet)
+        !new GradleDependency(dependency, ctx, true).toSnippet().is(snippet)
+
+        where:
+        buildTool                | expected
+        BuildTool.GRADLE         | 'implementation("io.micronaut.data:micronaut-data-jdbc") {\n      exclude(group: "org.slf4j", module: "slf4j-api")\n    }'
+        BuildTool.GRADLE_KOTLIN  | 'implementation("io.micronaut.data:micronaut-data-jdbc") {\n      exclude(group = "org.slf4j", module = "slf4j-api")\n    }'
+    }
+
+    void "maven snippets match the dependency template"() {
+        given:
+        Dependency jdbc = Dependency.builder()
+                .groupId("io.micronaut.data")
+                .artifactId("micronaut-data-jdbc")
+                .version("4.0.0")
+                .exclude(Dependency.builder().groupId("org.slf4j").artifactId("slf4j-api").build())
+                .compile()
+                .build()
+        MavenDependency mavenDependency = new MavenDependency(jdbc, Language.JAVA)
+
+        when:
+        String snippet = mavenDependency.toSnippet(false)
+
+        then:
+        snippet == dependency.template("io.micronaut.data", "micronaut-data-jdbc", "compile", "4.0.0", false, mavenDependency.exclusions).render().toString()
+        snippet.contains("<artifactId>slf4j-api</artifactId>")
+        new MavenDependency(jdbc, Language.JAVA).toSnippet(false).is(snippet)
+        mavenDependency.toSnippet(true).contains("<type>pom</type>")
+    }
+
+    void "the snippet cache is emptied once full"() {
+        given:
+        SnippetCache<String> cache = new SnippetCache<>(2)
+        int renders = 0
+
+        when:
+        cache.get("a") { renders++; "A" }
+        cache.get("a") { renders++; "A" }
+        cache.get("b") { renders++; "B" }
+
+        then:
+        renders == 2
+        cache.size() == 2
+
+        when:
+        String c = cache.get("c") { renders++; "C" }
+
+        then:
+        c == "C"
+        renders == 3
+        cache.size() == 1
+        cache.get("c") { renders++; "C" }.is(c)
+        renders == 3
+    }
+}
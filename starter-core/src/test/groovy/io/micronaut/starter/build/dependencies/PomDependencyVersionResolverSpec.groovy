@@ -20,4 +20,27 @@ class PomDependencyVersionResolverSpec extends Specification {
         expect:
         pomDependencyVersionResolver.coordinates
     }
+
+    void "every generated coordinate is resolved by its artifact id"() {
+        given:
+        Map<String, Coordinate> coordinates = StarterCoordinates.ALL_COORDINATES
+
+        expect:
+        coordinates.keySet().toList() == coordinates.keySet().toSorted()
+        coordinates.every { artifactId, coordinate ->
+            coordinate.artifactId == artifactId && pomDependencyVersionResolver.resolve(artifactId).get().is(coordinate)
+        }
+        coordinates.get("micronaut-gradle-plugin").is(StarterCoordinates.MICRONAUT_GRADLE_PLUGIN)
+        !pomDependencyVersionResolver.resolve("not-an-artifact").isPresent()
+        !coordinates.containsKey(42)
+        new HashMap<>(coordinates) == coordinates
+    }
+
+    void "coordinate tables require sorted artifact ids"() {
+        when:
+        new CoordinateTable(["b", "a"] as String[], [StarterCoordinates.MICRONAUT_GRADLE_PLUGIN, StarterCoordinates.MICRONAUT_GRADLE_PLUGIN] as Coordinate[])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
@@ -0,0 +1,66 @@
+package io.micronaut.starter.diff
+
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.application.OperatingSystem
+import io.micronaut.starter.application.generator.ProjectGenerator
+import io.micronaut.starter.io.ConsoleOutput
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import io.micronaut.starter.util.NameUtils
+
+class FeatureDifferSpec extends BeanContextSpec {
+
+    void "diffing a feature only shows the changed files and does not depend on the cached baseline"() {
+        given:
+        FeatureDiffer featureDiffer = beanContext.getBean(FeatureDiffer)
+        ProjectGenerator projectGenerator = beanContext.getBean(ProjectGenerator)
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17)
+
+        when:
+        List<String> first = diff(featureDiffer, projectGenerator, options, ['yaml'])
+        List<String> second = diff(featureDiffer, projectGenerator, options, ['yaml'])
+        List<String> none = diff(featureDiffer, projectGenerator, options, [])
+
+        then:
+        first == second
+        first.any { it.startsWith('+++ src/main/resources/application.yml') }
+        first.any { it.startsWith('--- src/main/resources/application.properties') }
+        !first.any { it.startsWith('+++ .gitignore') }
+        none.isEmpty()
+    }
+
+    private static List<String> diff(FeatureDiffer featureDiffer, ProjectGenerator projectGenerator, Options options, List<String> features) {
+        List<String> lines = []
+        ConsoleOutput output = new ConsoleOutput() {
+            @Override
+            void out(String message) {
+                lines << message
+            }
+
+            @Override
+            void err(String message) {
+            }
+
+            @Override
+            void warning(String message) {
+            }
+
+            @Override
+            boolean showStacktrace() {
+                false
+            }
+
+            @Override
+            boolean verbose() {
+                false
+            }
+        }
+        featureDiffer.produceDiff(projectGenerator, NameUtils.parse("example.micronaut.foo"), ApplicationType.DEFAULT,
+                options, OperatingSystem.LINUX, features, output)
+        lines
+    }
+}
@@ -0,0 +1,61 @@
+package io.micronaut.starter.feature
+
+import io.micronaut.starter.application.ApplicationType
+import spock.lang.Specification
+
+class FeatureSelectionSpec extends Specification {
+
+    Feature a = new NamedFeature("a")
+    Feature b = new NamedFeature("b")
+    Feature c = new NamedFeature("c")
+    BaseAvailableFeatures availableFeatures = new BaseAvailableFeatures([a, b, c], ApplicationType.DEFAULT)
+
+    void "features get dense ids in registration order"() {
+        expect:
+        availableFeatures.getId(a) == 0
+        availableFeatures.getId(c) == 2
+        availableFeatures.getId(new NamedFeature("a")) == -1
+    }
+
+    void "fingerprints only depend on the feature names"() {
+        given:
+        BaseAvailableFeatures reordered = new BaseAvailableFeatures([new NamedFeature("c"), new NamedFeature("b"), new NamedFeature("a")], ApplicationType.DEFAULT)
+
+        expect:
+        availableFeatures.toSelection([a, b]).fingerprint() == reordered.toSelection(reordered.allFeatures.filter { it.name != "c" }.toList()).fingerprint()
+        availableFeatures.toSelection([a, b]).fingerprint() != availableFeatures.toSelection([a, c]).fingerprint()
+        availableFeatures.toSelection([]).fingerprint() != availableFeatures.toSelection([a]).fingerprint()
+    }
+
+    void "selections are immutable snapshots keyed by registered ids and unregistered names"() {
+        given:
+        Feature d = new NamedFeature("d")
+        Set<Feature> selected = [b, a] as LinkedHashSet
+        FeatureSelection selection = availableFeatures.toSelection(selected)
+
+        when:
+        selected.add(c)
+
+        then:
+        selection == availableFeatures.toSelection([a, b])
+        selection != availableFeatures.toSelection(selected)
+        availableFeatures.toSelection([a, d]) == availableFeatures.toSelection([d, a])
+        availableFeatures.toSelection([a, d]) != availableFeatures.toSelection([a, new NamedFeature("e")])
+        FeatureSelection.of([b, a]) == FeatureSelection.of([a, b])
+        FeatureSelection.of([a, b]).fingerprint() == selection.fingerprint()
+    }
+
+    static class NamedFeature implements Feature {
+
+        final String name
+
+        NamedFeature(String name) {
+            this.name = name
+        }
+
+        @Override
+        boolean supports(ApplicationType applicationType) {
+            true
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.micronaut.starter.feature
+
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.feature.test.Junit
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import spock.lang.Specification
+
+class FeatureTypeIndexSpec extends Specification {
+
+    void "features are indexed by their super classes and interfaces"() {
+        given:
+        Feature a = new A()
+        Feature b = new B()
+        FeatureTypeIndex index = new FeatureTypeIndex([a, b])
+
+        expect:
+        index.get(A) == [a, b]
+        index.get(B) == [b]
+        index.get(Marker) == [b]
+        index.get(Feature) == [a, b]
+        index.contains(Object)
+        !index.contains(DefaultFeature)
+        index.get(DefaultFeature).isEmpty()
+    }
+
+    void "feature context lookups honour exclusions added before and after a feature"() {
+        given:
+        Feature a = new A()
+        Feature b = new B()
+        FeatureContext context = new FeatureContext(new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE),
+                ApplicationType.DEFAULT, null, [a] as Set)
+
+        when:
+        context.processSelectedFeatures()
+
+        then:
+        context.isPresent(A)
+        !context.isPresent(B)
+        context.getFeature(A).get() == a
+
+        when:
+        context.exclude({ Feature f -> f.is(a) } as FeaturePredicate)
+        context.addFeature(b)
+
+        then:
+        context.isPresent(A)
+        context.getFeature(A).get() == b
+        context.isPresent(Marker)
+
+        when:
+        context.exclude({ Feature f -> f instanceof Marker } as FeaturePredicate)
+
+        then:
+        !context.isPresent(A)
+        !context.getFeature(A).isPresent()
+    }
+
+    void "features lookups match the selected features"() {
+        given:
+        Feature a = new A()
+        Feature junit = new Junit()
+        Features features = new Features(null, [a, junit] as LinkedHashSet, new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE))
+
+        expect:
+        features.isFeaturePresent(A)
+        features.hasFeature(Marker) == false
+        features.getFeature(Junit).get() == junit
+        features.getRequiredFeature(A) == a
+        !features.hasMultiProjectFeature()
+    }
+
+    void "generations resolving the same registered features share them"() {
+        given:
+        Feature a = new A()
+        Feature b = new B() {
+            @Override
+            int getOrder() {
+                -1
+            }
+        }
+        BaseAvailableFeatures availableFeatures = new BaseAvailableFeatures([a, b], ApplicationType.DEFAULT)
+
+        when:
+        ResolvedFeatures resolved = availableFeatures.resolve([a, b] as LinkedHashSet)
+
+        then:
+        availableFeatures.resolve([a, b] as LinkedHashSet).is(resolved)
+        !availableFeatures.resolve([a] as Set).is(resolved)
+        resolved.features.toList() == [a, b]
+        resolved.orderedFeatures == [b, a]
+        new Features(null, resolved, new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE)).getRequiredFeature(B) == b
+
+        when:
+        Feature unregistered = new A()
+
+        then:
+        !availableFeatures.resolve([a, unregistered] as LinkedHashSet).is(availableFeatures.resolve([a, unregistered] as LinkedHashSet))
+    }
+
+    static interface Marker {
+    }
+
+    static class A implements Feature {
+        @Override
+        String getName() {
+            "a"
+        }
+
+        @Override
+        boolean supports(ApplicationType applicationType) {
+            true
+        }
+    }
+
+    static class B extends A implements Marker {
+        @Override
+        String getName() {
+            "b"
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.micronaut.starter.feature.config
+
+import spock.lang.Specification
+
+class ConfigurationSpec extends Specification {
+
+    void "nested lookups behave like the split based lookups"() {
+        given:
+        Configuration configuration = new Configuration("main", "application", "app")
+        configuration.addNested("a.b.c", 1)
+        configuration.addNested("a.d", null)
+        configuration.put("x.y", "flat")
+
+        expect:
+        configuration.containsKey("a.b.c")
+        configuration.get("a.b.c") == 1
+        configuration.get("a.b") == [c: 1]
+        configuration.containsKey("a.d")
+        configuration.get("a.d") == null
+        configuration.containsKey("a.b.c.")
+        !configuration.containsKey("a.b.c.d")
+        !configuration.containsKey("a.x")
+        configuration.get("x.y") == "flat"
+    }
+}
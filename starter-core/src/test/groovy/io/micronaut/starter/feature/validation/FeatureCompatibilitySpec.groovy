@@ -0,0 +1,99 @@
+package io.micronaut.starter.feature.validation
+
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.feature.Feature
+import io.micronaut.starter.feature.LanguageSpecificFeature
+import io.micronaut.starter.feature.MinJdkFeature
+import io.micronaut.starter.feature.OneOfFeature
+import io.micronaut.starter.feature.server.Netty
+import io.micronaut.starter.feature.server.Tomcat
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import spock.lang.Shared
+
+class FeatureCompatibilitySpec extends BeanContextSpec {
+
+    @Shared
+    FeatureCompatibility compatibility = beanContext.getBean(FeatureCompatibility)
+
+    void "one-of groups conflict only when two selected features belong to a selected group"() {
+        given:
+        Feature netty = beanContext.getBean(Netty)
+        Feature tomcat = beanContext.getBean(Tomcat)
+
+        expect:
+        !compatibility.summarize([netty]).mayViolateOneOf()
+        compatibility.summarize([netty, tomcat]).mayViolateOneOf()
+    }
+
+    void "features outside of the model are reduced when they are summarized"() {
+        given:
+        Feature oneOf = Stub(OneOfFeature) {
+            getName() >> "one-of"
+            getFeatureClass() >> Runnable
+        }
+        Feature groovyOnly = Stub(LanguageSpecificFeature) {
+            getRequiredLanguage() >> Language.GROOVY
+        }
+        Feature kotlinOnly = Stub(LanguageSpecificFeature) {
+            getRequiredLanguage() >> Language.KOTLIN
+        }
+        Feature jdk21 = Stub(MinJdkFeature) {
+            minJdk() >> JdkVersion.JDK_21
+        }
+
+        expect:
+        compatibility.summarize([oneOf]).mayViolateOneOf()
+        !compatibility.summarize([groovyOnly]).mayViolateLanguage(new Options(Language.GROOVY))
+        compatibility.summarize([groovyOnly]).mayViolateLanguage(new Options(Language.JAVA))
+        compatibility.summarize([groovyOnly, kotlinOnly]).mayViolateLanguage(null)
+        compatibility.summarize([jdk21]).mayViolateMinJdk(JdkVersion.JDK_17)
+        !compatibility.summarize([jdk21]).mayViolateMinJdk(JdkVersion.JDK_21)
+    }
+
+    void "the validators report the same conflicts as before"() {
+        given:
+        FeatureValidator featureValidator = beanContext.getBean(FeatureValidator)
+        Feature netty = beanContext.getBean(Netty)
+        Feature tomcat = beanContext.getBean(Tomcat)
+
+        when:
+        featureValidator.validatePreProcessing(new Options(Language.JAVA), ApplicationType.DEFAULT, [netty, tomcat] as LinkedHashSet)
+
+        then:
+        IllegalArgumentException e = thrown()
+        e.message == "There can only be one of the following features selected: [netty-server, tomcat-server]"
+    }
+
+    void "the composite validator summarizes the features once per pass"() {
+        given:
+        int summaries = 0
+        FeatureCompatibility counting = new FeatureCompatibility() {
+            @Override
+            FeatureCompatibility.Summary summarize(Collection<Feature> features) {
+                summaries++
+                super.summarize(features)
+            }
+        }
+        FeatureValidator featureValidator = new CompositeFeatureValidator([
+                new OneOfFeatureValidator(),
+                new RequiredLanguageFeatureValidator(),
+                new MinJdkFeatureValidator(),
+                new GradleSpecificFeatureValidator(),
+                new MavenSpecificFeatureValidator()
+        ], counting)
+        Set<Feature> features = [beanContext.getBean(Netty)] as LinkedHashSet
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17)
+
+        when:
+        featureValidator.validatePreProcessing(options, ApplicationType.DEFAULT, features)
+        featureValidator.validatePostProcessing(options, ApplicationType.DEFAULT, features)
+
+        then:
+        summaries == 2
+    }
+}
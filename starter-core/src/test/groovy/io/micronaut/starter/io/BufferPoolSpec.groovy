@@ -0,0 +1,107 @@
+package io.micronaut.starter.io
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.starter.BeanContextSpec
+import io.micronaut.starter.application.ApplicationType
+import io.micronaut.starter.application.generator.GeneratorContext
+import io.micronaut.starter.application.generator.ProjectGenerator
+import io.micronaut.starter.fixture.CommandOutputFixture
+import io.micronaut.starter.options.BuildTool
+import io.micronaut.starter.options.JdkVersion
+import io.micronaut.starter.options.Language
+import io.micronaut.starter.options.Options
+import io.micronaut.starter.options.TestFramework
+import io.micronaut.starter.template.StringTemplate
+import io.micronaut.starter.util.NameUtils
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+
+class BufferPoolSpec extends BeanContextSpec implements CommandOutputFixture {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext pooledContext = ApplicationContext.run((BufferPoolConfiguration.PREFIX + '.enabled'): true)
+
+    void "buffers are reused and large buffers are discarded"() {
+        given:
+        BufferPoolConfiguration configuration = new BufferPoolConfiguration(enabled: true, maxBuffers: 1, initialBufferSize: 16, maxBufferSize: 64)
+        BufferPool pool = new BufferPool(configuration)
+
+        when:
+        PooledBuffer first = pool.acquire()
+        first.write("hello".bytes)
+        first.release()
+        first.release()
+        PooledBuffer second = pool.acquire()
+
+        then:
+        second.is(first)
+        second.size() == 0
+        pool.allocated == 1
+        pool.reused == 1
+        pool.inUse == 1
+
+        when:
+        second.write(new byte[100])
+        second.release()
+
+        then:
+        second.capacity() >= 100
+        pool.discarded == 1
+        pool.idle == 0
+        pool.inUse == 0
+    }
+
+    void "rendering through pooled buffers produces the same project for #buildTool"(BuildTool buildTool) {
+        given:
+        Options options = new Options(Language.JAVA, TestFramework.JUNIT, buildTool, JdkVersion.JDK_17)
+        List<String> features = ['data-jdbc', 'postgres', 'github-workflow-ci']
+        BufferPool pool = pooledContext.getBean(BufferPool)
+
+        when:
+        Map<String, String> expected = generate(ApplicationType.DEFAULT, options, features)
+        Map<String, String> pooled = new PooledFixture(beanContext: pooledContext).generate(ApplicationType.DEFAULT, options, features)
+
+        then:
+        pool.enabled
+        pooled == expected
+        pool.inUse == 0
+        pool.idle > 0
+
+        where:
+        buildTool << [BuildTool.GRADLE, BuildTool.MAVEN]
+    }
+
+    void "templates skipped as already existing are not rendered into pooled buffers"() {
+        given:
+        ProjectGenerator generator = pooledContext.getBean(ProjectGenerator)
+        GeneratorContext generatorContext = generator.createGeneratorContext(ApplicationType.DEFAULT,
+                NameUtils.parse("example.micronaut.foo"),
+                new Options(Language.JAVA, TestFramework.JUNIT, BuildTool.GRADLE, JdkVersion.JDK_17),
+                null, [], ConsoleOutput.NOOP)
+        generatorContext.addTemplate("existing", new StringTemplate("existing.txt", "existing") {
+            @Override
+            void write(OutputStream outputStream) throws IOException {
+                throw new IllegalStateException("skipped templates are not rendered")
+            }
+        })
+        MapOutputHandler outputHandler = new MapOutputHandler() {
+            @Override
+            boolean exists(String path) {
+                path == "existing.txt" || super.exists(path)
+            }
+        }
+
+        when:
+        generator.generate(ApplicationType.DEFAULT, generatorContext.project, outputHandler, generatorContext)
+
+        then:
+        noExceptionThrown()
+        !outputHandler.project.containsKey("existing.txt")
+        !outputHandler.project.isEmpty()
+    }
+
+    static class PooledFixture implements CommandOutputFixture {
+        ApplicationContext beanContext
+    }
+}
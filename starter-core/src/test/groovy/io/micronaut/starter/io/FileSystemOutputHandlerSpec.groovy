@@ -1,13 +1,18 @@
 package io.micronaut.starter.io
 
 import io.micronaut.starter.template.StringTemplate
+import spock.lang.IgnoreIf
 import spock.lang.Specification
+import spock.lang.TempDir
 
 import java.nio.file.Files
 import java.util.stream.Collectors
 
 class FileSystemOutputHandlerSpec extends Specification {
 
+    @TempDir
+    File tempDir
+
     void "test write template"() {
         when:
         File dir = new File(".");
@@ -27,4 +32,57 @@ class FileSystemOutputHandlerSpec extends Specification {
         !result.contains("123");
 
     }
+
+    void "staged files are written by the I/O executor and moved to the target directory on close"() {
+        given:
+        File target = new File(tempDir, "demo")
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(target, ConsoleOutput.NOOP, new FileWriteStrategy(2, true))
+
+        when:
+        handler.write("src/main/resources/application.properties", new StringTemplate("application.properties", "a=1"))
+        handler.write("src/main/resources/application.properties", new StringTemplate("application.properties", "b"))
+        handler.write("README.md", new StringTemplate("README.md", "# Demo"))
+
+        then:
+        handler.exists("README.md")
+        !target.exists()
+
+        when:
+        handler.close()
+
+        then:
+        new File(target, "src/main/resources/application.properties").text == "b"
+        new File(target, "README.md").text == "# Demo"
+        tempDir.list() as List == ["demo"]
+    }
+
+    void "aborting discards the staged files"() {
+        given:
+        File target = new File(tempDir, "demo")
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(target, ConsoleOutput.NOOP, FileWriteStrategy.BATCHED)
+
+        when:
+        handler.write("README.md", new StringTemplate("README.md", "# Demo"))
+        handler.abort()
+        handler.close()
+
+        then:
+        !target.exists()
+        tempDir.list().length == 0
+    }
+
+    @IgnoreIf({ os.windows })
+    void "the staged application directory gets the default permissions"() {
+        given:
+        File target = new File(tempDir, "demo")
+        File reference = Files.createDirectory(new File(tempDir, "reference").toPath()).toFile()
+        FileSystemOutputHandler handler = new FileSystemOutputHandler(target, ConsoleOutput.NOOP, FileWriteStrategy.BATCHED)
+
+        when:
+        handler.write("README.md", new StringTemplate("README.md", "# Demo"))
+        handler.close()
+
+        then:
+        Files.getPosixFilePermissions(target.toPath()) == Files.getPosixFilePermissions(reference.toPath())
+    }
 }
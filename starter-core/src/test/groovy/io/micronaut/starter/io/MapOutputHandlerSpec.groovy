@@ -0,0 +1,63 @@
+package io.micronaut.starter.io
+
+import io.micronaut.starter.template.BinaryTemplate
+import io.micronaut.starter.template.StringTemplate
+import spock.lang.Specification
+
+class MapOutputHandlerSpec extends Specification {
+
+    void "equal files of different projects share the same blob"() {
+        given:
+        BlobStore store = new BlobStore()
+        MapOutputHandler first = new MapOutputHandler(store)
+        MapOutputHandler second = new MapOutputHandler(store)
+
+        when:
+        first.write("README.md", new StringTemplate("README.md", "# Demo"))
+        first.write("build.gradle", new StringTemplate("build.gradle", "plugins {}"))
+        second.write("README.md", new StringTemplate("README.md", "# Demo"))
+        second.write("build.gradle", new StringTemplate("build.gradle", "plugins { id 'java' }"))
+
+        then:
+        first.files["README.md"].is(second.files["README.md"])
+        first.files["build.gradle"] != second.files["build.gradle"]
+        first.files["build.gradle"].hash != second.files["build.gradle"].hash
+        store.size() == 3
+        first.project == ["README.md": "# Demo", "build.gradle": "plugins {}"]
+    }
+
+    void "only the text of the files is kept without a store"() {
+        given:
+        MapOutputHandler handler = new MapOutputHandler()
+
+        when:
+        handler.write("README.md", new StringTemplate("README.md", "# Demo"))
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new BinaryTemplate("gradle/wrapper/gradle-wrapper.jar", Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar")) {
+            @Override
+            void write(OutputStream outputStream) throws IOException {
+                throw new IllegalStateException("binary files are not read without a store")
+            }
+        })
+
+        then:
+        handler.exists("README.md")
+        handler.exists("gradle/wrapper/gradle-wrapper.jar")
+        handler.isBinary("gradle/wrapper/gradle-wrapper.jar")
+        handler.project == ["README.md": "# Demo", "gradle/wrapper/gradle-wrapper.jar": null]
+        handler.files.isEmpty()
+    }
+
+    void "binary files keep their contents but are mapped to null in the project"() {
+        given:
+        MapOutputHandler handler = new MapOutputHandler(new BlobStore())
+
+        when:
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new BinaryTemplate("gradle/wrapper/gradle-wrapper.jar", Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar")))
+
+        then:
+        handler.isBinary("gradle/wrapper/gradle-wrapper.jar")
+        handler.files["gradle/wrapper/gradle-wrapper.jar"].openStream().bytes == Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar").bytes
+        handler.project.containsKey("gradle/wrapper/gradle-wrapper.jar")
+        handler.project["gradle/wrapper/gradle-wrapper.jar"] == null
+    }
+}
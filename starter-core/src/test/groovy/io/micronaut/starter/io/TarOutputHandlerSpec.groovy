@@ -0,0 +1,49 @@
+package io.micronaut.starter.io
+
+import io.airlift.compress.zstd.ZstdInputStream
+import io.micronaut.starter.template.StringTemplate
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream
+import spock.lang.Specification
+
+class TarOutputHandlerSpec extends Specification {
+
+    void "projects are written to a #compression compressed tar stream"(TarOutputHandler.Compression compression) {
+        given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        TarOutputHandler handler = new TarOutputHandler("demo", out, compression)
+        handler.write("README.md", new StringTemplate("README.md", "# Demo"))
+        handler.write("gradlew", new StringTemplate("gradlew", "#!/bin/sh") {
+            @Override
+            boolean isExecutable() {
+                true
+            }
+        })
+        handler.close()
+        InputStream decompressed = compression == TarOutputHandler.Compression.GZIP
+                ? new GzipCompressorInputStream(new ByteArrayInputStream(out.toByteArray()))
+                : new ZstdInputStream(new ByteArrayInputStream(out.toByteArray()))
+        Map<String, String> files = [:]
+        Map<String, Integer> modes = [:]
+        TarArchiveInputStream tar = new TarArchiveInputStream(decompressed)
+        TarArchiveEntry entry
+        while ((entry = tar.nextEntry) != null) {
+            files[entry.name] = new String(tar.readAllBytes())
+            modes[entry.name] = entry.mode
+        }
+
+        then:
+        files == ["demo/README.md": "# Demo", "demo/gradlew": "#!/bin/sh"]
+        (modes["demo/gradlew"] & 0100) != 0
+        (modes["demo/README.md"] & 0100) == 0
+
+        cleanup:
+        tar?.close()
+
+        where:
+        compression << TarOutputHandler.Compression.values()
+    }
+}
@@ -0,0 +1,181 @@
+package io.micronaut.starter.io
+
+import io.micronaut.starter.template.PrecompressedTemplate
+import io.micronaut.starter.template.RenderedTemplate
+import io.micronaut.starter.template.ResourceContents
+import io.micronaut.starter.template.StringTemplate
+import io.micronaut.starter.template.Template
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry
+import org.apache.commons.compress.archivers.zip.ZipFile
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.zip.Deflater
+import java.util.zip.ZipEntry
+
+class ZipOutputHandlerSpec extends Specification {
+
+    void "precompressed resources are stored as raw deflated entries"() {
+        given:
+        ResourceContents wrapperJar = ResourceContents.load("gradle/wrapper/gradle-wrapper.jar")
+        ResourceContents wrapperScript = ResourceContents.load("gradle/gradlew")
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", out)
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new PrecompressedTemplate(Template.ROOT, "gradle/wrapper/gradle-wrapper.jar", wrapperJar, true, false))
+        handler.write("gradlew", new PrecompressedTemplate(Template.ROOT, "gradlew", wrapperScript, false, true))
+        handler.close()
+        ZipFile zip = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(out.toByteArray())).get()
+        ZipArchiveEntry jarEntry = zip.getEntry("demo/gradle/wrapper/gradle-wrapper.jar")
+        ZipArchiveEntry scriptEntry = zip.getEntry("demo/gradlew")
+
+        then:
+        jarEntry.method == ZipEntry.DEFLATED
+        jarEntry.crc == wrapperJar.crc
+        zip.getInputStream(jarEntry).bytes == Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar").bytes
+        new String(zip.getInputStream(scriptEntry).bytes) == Thread.currentThread().contextClassLoader.getResource("gradle/gradlew").text
+        (scriptEntry.unixMode & 0100) != 0
+
+        cleanup:
+        zip?.close()
+    }
+
+    void "entries are stored or deflated according to the compression policy"(int parallelism) {
+        given:
+        ResourceContents wrapperJar = ResourceContents.load("gradle/wrapper/gradle-wrapper.jar")
+        ZipCompressionPolicy policy = new ZipCompressionPolicy(9, [".JAR": ZipCompressionPolicy.Method.STORED], 16, parallelism)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        String readme = "# Demo\n" * 20
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", out, policy, executor)
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new PrecompressedTemplate(Template.ROOT, "gradle/wrapper/gradle-wrapper.jar", wrapperJar, true, false))
+        handler.write("README.md", RenderedTemplate.render(new StringTemplate("README.md", readme)))
+        handler.write("small.txt", RenderedTemplate.render(new StringTemplate("small.txt", "tiny")))
+        handler.write("gradlew", new StringTemplate("gradlew", "#!/bin/sh") {
+            @Override
+            boolean isExecutable() {
+                true
+            }
+        })
+        handler.close()
+        ZipFile zip = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(out.toByteArray())).get()
+
+        then:
+        zip.getEntry("demo/gradle/wrapper/gradle-wrapper.jar").method == ZipEntry.STORED
+        zip.getInputStream(zip.getEntry("demo/gradle/wrapper/gradle-wrapper.jar")).bytes == Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar").bytes
+        zip.getEntry("demo/README.md").method == ZipEntry.DEFLATED
+        new String(zip.getInputStream(zip.getEntry("demo/README.md")).bytes) == readme
+        zip.getEntry("demo/small.txt").method == ZipEntry.STORED
+        new String(zip.getInputStream(zip.getEntry("demo/small.txt")).bytes) == "tiny"
+        new String(zip.getInputStream(zip.getEntry("demo/gradlew")).bytes) == "#!/bin/sh"
+        (zip.getEntry("demo/gradlew").unixMode & 0100) != 0
+
+        cleanup:
+        zip?.close()
+        executor.shutdownNow()
+
+        where:
+        parallelism << [1, 4]
+    }
+
+    void "entries deflated concurrently keep precompressed resources as they are"() {
+        given:
+        ResourceContents wrapperJar = ResourceContents.load("gradle/wrapper/gradle-wrapper.jar")
+        ZipCompressionPolicy policy = new ZipCompressionPolicy(Deflater.DEFAULT_COMPRESSION, null, 0, 4)
+        BufferPool bufferPool = new BufferPool()
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+        List<String> files = (1..20).collect { "src/File${it}.txt".toString() }
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", out, policy, executor)
+        handler.write("gradle/wrapper/gradle-wrapper.jar", new PrecompressedTemplate(Template.ROOT, "gradle/wrapper/gradle-wrapper.jar", wrapperJar, true, false))
+        for (String file : files) {
+            RenderedTemplate rendered = RenderedTemplate.render(new StringTemplate(file, "contents of ${file}\n" * 50), bufferPool)
+            handler.write(file, rendered)
+            // the generator hands the buffer back to the pool as soon as the entry is written
+            rendered.release()
+            RenderedTemplate.render(new StringTemplate("other", "x" * 4096), bufferPool).release()
+        }
+        handler.close()
+        ZipFile zip = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(out.toByteArray())).get()
+        ZipArchiveEntry jarEntry = zip.getEntry("demo/gradle/wrapper/gradle-wrapper.jar")
+
+        then:
+        jarEntry.method == ZipEntry.DEFLATED
+        jarEntry.compressedSize == wrapperJar.deflatedSize
+        jarEntry.crc == wrapperJar.crc
+        zip.getInputStream(jarEntry).bytes == Thread.currentThread().contextClassLoader.getResource("gradle/wrapper/gradle-wrapper.jar").bytes
+        files.every { file ->
+            ZipArchiveEntry entry = zip.getEntry("demo/" + file)
+            entry.method == ZipEntry.DEFLATED && new String(zip.getInputStream(entry).bytes) == "contents of ${file}\n" * 50
+        }
+        zip.entries.toList()*.name.findAll { it.startsWith("demo/src/") } == files.collect { "demo/" + it }
+
+        cleanup:
+        zip?.close()
+        executor.shutdownNow()
+    }
+
+    void "templates below the stored threshold are stored even when not rendered yet"(int parallelism) {
+        given:
+        ZipCompressionPolicy policy = new ZipCompressionPolicy(Deflater.DEFAULT_COMPRESSION, null, 16, parallelism)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", out, policy, executor)
+        handler.write("small.txt", new StringTemplate("small.txt", "tiny"))
+        handler.write("large.txt", new StringTemplate("large.txt", "large\n" * 20))
+        handler.close()
+        ZipFile zip = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(out.toByteArray())).get()
+
+        then:
+        zip.getEntry("demo/small.txt").method == ZipEntry.STORED
+        new String(zip.getInputStream(zip.getEntry("demo/small.txt")).bytes) == "tiny"
+        zip.getEntry("demo/large.txt").method == ZipEntry.DEFLATED
+        new String(zip.getInputStream(zip.getEntry("demo/large.txt")).bytes) == "large\n" * 20
+
+        cleanup:
+        zip?.close()
+        executor.shutdownNow()
+
+        where:
+        parallelism << [1, 4]
+    }
+
+    void "entries compressed concurrently are written in the order they were generated"() {
+        given:
+        ResourceContents wrapperJar = ResourceContents.load("gradle/wrapper/gradle-wrapper.jar")
+        ZipCompressionPolicy policy = new ZipCompressionPolicy(Deflater.DEFAULT_COMPRESSION, [jar: ZipCompressionPolicy.Method.STORED], 16, 4)
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        ExecutorService executor = Executors.newFixedThreadPool(2)
+        List<String> expected = []
+
+        when:
+        ZipOutputHandler handler = new ZipOutputHandler("demo", out, policy, executor)
+        (1..10).each { i ->
+            handler.write("src/Large${i}.txt", new StringTemplate("src/Large${i}.txt", "large ${i}\n" * 500))
+            handler.write("src/small${i}.txt", new StringTemplate("src/small${i}.txt", "s${i}"))
+            handler.write("lib/wrapper${i}.jar", new PrecompressedTemplate(Template.ROOT, "lib/wrapper${i}.jar", wrapperJar, true, false))
+            expected.addAll(["demo/src/Large${i}.txt", "demo/src/small${i}.txt", "demo/lib/wrapper${i}.jar"]*.toString())
+        }
+        handler.close()
+        ZipFile zip = ZipFile.builder().setSeekableByteChannel(new SeekableInMemoryByteChannel(out.toByteArray())).get()
+
+        then:
+        zip.entriesInPhysicalOrder.toList()*.name == expected
+        zip.getEntry("demo/src/small1.txt").method == ZipEntry.STORED
+        zip.getEntry("demo/lib/wrapper1.jar").method == ZipEntry.STORED
+        zip.getEntry("demo/src/Large1.txt").method == ZipEntry.DEFLATED
+
+        cleanup:
+        zip?.close()
+        executor.shutdownNow()
+    }
+}
@@ -0,0 +1,53 @@
+package io.micronaut.starter.template
+
+import spock.lang.Specification
+
+import java.util.regex.Matcher
+
+class PathTemplateSpec extends Specification {
+
+    private static final Map<String, String> REPLACEMENTS = [packagePath: 'example/micronaut', className: 'Foo', name: 'foo', '}x': 'odd']
+
+    void "path #path is substituted like the regular expression"(String path) {
+        expect:
+        PathTemplate.compile(path).apply(REPLACEMENTS) == regex(path, REPLACEMENTS)
+
+        where:
+        path << [
+                '',
+                'build.gradle',
+                'src/main/java/{packagePath}/{className}.java',
+                '{name}',
+                '{name}{name}',
+                '{unknown}/{name}',
+                '{}',
+                '{}x}',
+                '{{name}}',
+                '{na\nme}{name}',
+                '{name',
+                'name}',
+                'a{b{c}d}e'
+        ]
+    }
+
+    void "paths are parsed once"() {
+        expect:
+        PathTemplate.compile('src/{packagePath}').is(PathTemplate.compile('src/{packagePath}'))
+        !PathTemplate.compile('README.md').hasVariables()
+        PathTemplate.compile('README.md').apply(REPLACEMENTS) == 'README.md'
+    }
+
+    private static String regex(String path, Map<String, String> replacements) {
+        Matcher matcher = DefaultTemplateRenderer.VARIABLES_PATTERN.matcher(path)
+        StringBuilder builder = new StringBuilder()
+        int i = 0
+        while (matcher.find()) {
+            String replacement = replacements.get(matcher.group(1))
+            builder.append(path, i, matcher.start())
+            builder.append(replacement == null ? matcher.group(0) : replacement)
+            i = matcher.end()
+        }
+        builder.append(path.substring(i))
+        builder.toString()
+    }
+}
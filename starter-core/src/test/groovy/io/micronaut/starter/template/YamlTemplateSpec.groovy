@@ -39,4 +39,31 @@ micronaut:
         expect:
         baos.toString() == "# Place application configuration here"
     }
+
+    void "yaml is written as UTF-8 and repeated writes produce the same output"() {
+        given:
+        Map<String, Object> config = [:]
+        config.put("micronaut.application.name", "caf\u00e9")
+        config.put("endpoints.health.enabled", true)
+        config.put("endpoints.health.sensitive", false)
+        YamlTemplate template = new YamlTemplate("abc", config)
+
+        when:
+        List<String> outputs = (1..3).collect {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream()
+            template.write(baos)
+            baos.toString("UTF-8")
+        }
+
+        then:
+        outputs.unique().size() == 1
+        outputs[0] == """micronaut:
+  application:
+    name: caf\u00e9
+endpoints:
+  health:
+    enabled: true
+    sensitive: false
+"""
+    }
 }